@@ -1,9 +1,12 @@
 package com.arctite.dontfreeze;
 
+import com.arctite.dontfreeze.util.AssetFiles;
+import com.arctite.dontfreeze.util.ResourceManager;
 import com.arctite.dontfreeze.util.SoundManager;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -32,8 +35,10 @@ public abstract class AbstractScreen implements Screen {
 	/** The Game object this Screen is a part of */
 	private final GameMain game;
 
-	/** Transition texture */
-	private Sprite transitionImage;
+	/** Transition texture, shared by all screens */
+	private static Sprite transitionImage;
+	/** Window-sized camera the tint is drawn with, whatever the screen (or a world being built) left the batch with */
+	private final OrthographicCamera transitionCamera;
 	/** Whether or not this Screen is currently transitioning */
 	private boolean transitioning;
 	/** If transitioning, whether it is transitioning in (fading in) or out (fading out) */
@@ -49,6 +54,26 @@ public abstract class AbstractScreen implements Screen {
 		this.game = game;
 
 		this.spriteBatch = spriteBatch;
+		this.transitionCamera = new OrthographicCamera();
+		transitionCamera.setToOrtho(false, GameMain.GAME_WINDOW_WIDTH, GameMain.GAME_WINDOW_HEIGHT);
+	}
+
+	/**
+	 * Uses an already loaded texture (eg. loaded at startup) for the transition tint.
+	 *
+	 * @param texture the texture, now owned by the screens
+	 */
+	static void preloadTransition(Texture texture) {
+		transitionImage = new Sprite(ResourceManager.acquire(AbstractScreen.class, texture));
+	}
+
+	/**
+	 * Gets the location of the transition tint image.
+	 *
+	 * @return path of the image
+	 */
+	static String getTransitionLocation() {
+		return TRANSITION_TEXTURE_LOCATION;
 	}
 
 	public GameMain getGame() {
@@ -74,7 +99,8 @@ public abstract class AbstractScreen implements Screen {
 
 		// load transition texture if not already loaded
 		if (transitionImage == null) {
-			transitionImage = new Sprite(new Texture(Gdx.files.internal(TRANSITION_TEXTURE_LOCATION)));
+			transitionImage = new Sprite(ResourceManager.acquire(AbstractScreen.class,
+					new Texture(AssetFiles.internal(TRANSITION_TEXTURE_LOCATION))));
 		}
 	}
 
@@ -82,6 +108,15 @@ public abstract class AbstractScreen implements Screen {
 		return transitioning;
 	}
 
+	/**
+	 * Gets the alpha of the transition tint currently over the screen.
+	 *
+	 * @return 1 if the screen is completely faded out, 0 if completely faded in
+	 */
+	public float getTransitionAlpha() {
+		return transitioning ? transitionAlpha : 0;
+	}
+
 	/**
 	 * Calls the OpenGL methods to clear the screen before a new frame is rendered.
 	 */
@@ -121,13 +156,17 @@ public abstract class AbstractScreen implements Screen {
 			if (transitionIn && transitionAlpha <= 0.0F) { // faded in: stop transitioning
 				transitioning = false;
 				transitionAlpha = 0.0F;
-			} else if (!transitionIn && transitionAlpha >= 1.0F) { // faded out: change screens
-				transitioning = false;
-				transitionedOut = true;
-				transitionAlpha = 1.0F;
-				game.setScreen(transitionOutType);
+			} else if (!transitionIn) {
+				// get the next screen ready a little at a time while fading out, and hold at black until it is
+				boolean ready = game.prepareScreen(transitionOutType);
+				if (ready && transitionAlpha >= 1.0F) { // faded out: change screens
+					transitioning = false;
+					transitionedOut = true;
+					transitionAlpha = 1.0F;
+					game.setScreen(transitionOutType);
+				}
 			}
-			SoundManager.setVolume(1.0F - transitionAlpha);
+			SoundManager.setFadeVolume(1.0F - transitionAlpha);
 		}
 
 		update(delta);
@@ -151,6 +190,7 @@ public abstract class AbstractScreen implements Screen {
 		}
 		if (transitioning || transitionedOut) {
 			// draw tint
+			spriteBatch.setProjectionMatrix(transitionCamera.combined);
 			spriteBatch.begin();
 			transitionImage.draw(spriteBatch, transitionAlpha);
 			spriteBatch.end();
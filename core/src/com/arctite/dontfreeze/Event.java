@@ -1,25 +1,17 @@
 package com.arctite.dontfreeze;
 
-import com.arctite.dontfreeze.util.GameMessages;
 import com.badlogic.gdx.math.Rectangle;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.List;
 
 /**
- * Represents objects on the Events layer on the maps.
+ * Represents objects on the Events layer on the maps, as compiled by EventCompiler.
  *
  * Created by Quasar on 29/06/2015.
  */
 public class Event {
 
-	/** Types */
-	public static final String TYPE_MESSAGE = "message";
-	public static final String TYPE_SPAWN_MONSTER = "spawn";
-	public static final String TYPE_SPAWN_COLLECTABLE = "spawnc";
-	public static final String TYPE_SET = "set"; // sets event properties
-	public static final String TYPE_ANIMATE = "animate"; // activate an AnimatedObstacle
-
 	/** Splitter for set-type event names, and required prop/value pairs */
 	public static final String EQUALS = "=";
 	/** Splitter for requirements for prop NOT EQUAL to value */
@@ -29,10 +21,8 @@ public class Event {
 
 	/** Unique ID of this event, set by Tiled and unmodifiable */
 	private int id;
-	/** Name of this event, as per Tiled object name property */
-	private String[] names;
-	/** Type of this event, as per Tiled object type property */
-	private String[] types;
+	/** What this event does, as per Tiled object name and type properties */
+	private EventAction[] actions;
 	/** Bounds of this Event on the map - player colliding with these bounds triggers this Event */
 	private Rectangle bounds;
 	/** Repeatable flag (which works by forcing the triggered flag to stay false) */
@@ -43,22 +33,21 @@ public class Event {
 	private ArrayList<Requirement> requirements;
 
 	/**
-	 * Creates a new Event trigger object with the given name, type, and bounds, as read from the Tiled map file. The
-	 * requirements flag is set to false by default. If this event needs requirements set, that must be done through
-	 * calling setRequirements()
+	 * Creates a new Event trigger object with the given actions and bounds, as compiled from the Tiled map file. The
+	 * event has no requirements by default. If this event needs requirements set, that must be done through calling
+	 * addRequirement()
 	 *
-	 * @param names names of this event, separated by commas
-	 * @param types types of events, separated by commas
+	 * @param id unique id of this event
 	 * @param x bounds x coordinate (bottom left corner)
 	 * @param y bounds y coordinate (bottom left corner)
 	 * @param width width of the bounds
 	 * @param height height of the bounds
 	 * @param repeatable whether this event is repeatable
+	 * @param actions what this event does, in order
 	 */
-	public Event(int id, String names, String types, int x, int y, float width, float height, boolean repeatable) {
+	public Event(int id, int x, int y, float width, float height, boolean repeatable, EventAction[] actions) {
 		this.id = id;
-		this.names = names.split(COMMA);
-		this.types = types.split(COMMA);
+		this.actions = actions;
 		this.bounds = new Rectangle(x, y, width, height);
 		this.triggered = false;
 		this.repeatable = repeatable;
@@ -76,17 +65,18 @@ public class Event {
 	}
 
 	/**
-	 * Checks whether or not the given world's event-set properties map contains values that satisfy this event's
+	 * Checks whether or not the given world's event-set properties contain values that satisfy this event's
 	 * requirements, for this event to be triggered. Returns true if this event has no requirements.
 	 *
-	 * @param props the world's event-set properties map
+	 * @param props the world's event-set properties, which this event's requirements were added with
 	 *
 	 * @return whether or not this event's requirements (if any) are satisfied, and this event can be triggered
 	 */
-	public boolean satisfiesRequirements(HashMap<String, String> props) {
-		for (Requirement req : requirements) {
+	public boolean satisfiesRequirements(EventProperties props) {
+		for (int i = 0; i < requirements.size(); i++) {
+			Requirement req = requirements.get(i);
 			// LHS and RHS equivalent means requirement satisfied
-			if (req.getEquals() != req.getValue().equals(props.get(req.getName()))) {
+			if (req.equals != (props.get(req.nameId) == req.valueId)) {
 				return false; // this req not satisfied, event can't trigger
 			}
 		}
@@ -94,46 +84,31 @@ public class Event {
 	}
 
 	/**
-	 * Adds a requirement to this event.
+	 * Adds a requirement to this event, compiled to the ids of its name and value in the given properties.
 	 *
 	 * @param equals true for '=', false for '<>'
 	 * @param name name of requirement
 	 * @param value value of requirement
+	 * @param props the world's event-set properties, which requirements will be checked against
 	 */
-	public void addRequirement(boolean equals, String name, String value) {
-		Requirement req = new Requirement(equals, name, value);
+	public void addRequirement(boolean equals, String name, String value, EventProperties props) {
+		Requirement req = new Requirement(equals, name, value, props.getNameId(name), props.getValueId(value));
 		requirements.add(req);
 	}
 
 	/**
-	 * Fires off this event, does NOT check requirements.
+	 * Fires off this event, does NOT check requirements. Its actions are added to the given queue, for the world to
+	 * run at the end of the step.
+	 *
+	 * @param queue the world's queue of actions
 	 */
-	public void trigger(WorldScreen world) {
+	public void trigger(List<EventAction> queue) {
 		if (!repeatable) { // only set triggered flag if not repeatable
 			triggered = true;
 		}
 
-		for (int i = 0; i < types.length; i++) {
-			String name = names[i];
-			String type = types[i];
-			if (type.equals(TYPE_MESSAGE)) {
-				// get the game message corresponding to this event's name
-				world.getConvoBox().setMessages(GameMessages.getMessage(name));
-			} else if (type.equals(TYPE_SPAWN_MONSTER)) {
-				world.spawnMonster(name);
-			} else if (type.equals(TYPE_SPAWN_COLLECTABLE)) {
-				world.spawnCollectable(name);
-			} else if (type.equals(TYPE_SET)) {
-				String[] split = name.split(EQUALS);
-				String propName = split[0];
-				String propValue = split[1];
-				world.setEventProperty(propName, propValue);
-			} else if (type.equals(TYPE_ANIMATE)) {
-				world.animate(name);
-			} else {
-				// we don't have a handler for this type of event yet
-				throw new RuntimeException("unsupported event type: " + type);
-			}
+		for (int i = 0; i < actions.length; i++) {
+			queue.add(actions[i]);
 		}
 	}
 
@@ -165,18 +140,22 @@ public class Event {
 	}
 
 	/**
-	 * Pair of Strings representing a requirement.
+	 * Pair of Strings representing a requirement, along with their ids in the world's event properties.
 	 */
 	public class Requirement {
 
 		private boolean equals;
 		private String name;
 		private String value;
+		private int nameId;
+		private int valueId;
 
-		private Requirement(boolean equals, String name, String value) {
+		private Requirement(boolean equals, String name, String value, int nameId, int valueId) {
 			this.equals = equals;
 			this.name = name;
 			this.value = value;
+			this.nameId = nameId;
+			this.valueId = valueId;
 		}
 
 		public boolean getEquals() {
@@ -0,0 +1,122 @@
+package com.arctite.dontfreeze;
+
+import com.arctite.dontfreeze.entities.AnimatedObstacle;
+import com.arctite.dontfreeze.entities.SpawnDescriptor;
+
+import java.util.HashMap;
+
+/**
+ * One thing that an Event does when it fires, compiled from the Tiled map by EventCompiler. Its target is resolved
+ * when the event is compiled: the message text, the descriptor of the entity to spawn, the obstacle to animate, or the
+ * ids of the property and value to set.
+ *
+ * Triggered actions are queued by the world and run at the end of the step.
+ */
+public class EventAction {
+
+	/**
+	 * The kinds of action, by the event type they're written as on the Tiled map.
+	 */
+	public enum Type {
+
+		MESSAGE("message"),
+		SPAWN_MONSTER("spawn"),
+		SPAWN_COLLECTABLE("spawnc"),
+		SET("set"), // sets event properties
+		ANIMATE("animate"); // activate an AnimatedObstacle
+
+		private static final HashMap<String, Type> BY_NAME = new HashMap<String, Type>();
+
+		static {
+			for (Type type : values()) {
+				BY_NAME.put(type.name, type);
+			}
+		}
+
+		private final String name;
+
+		Type(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Gets the action type written as the given event type on the Tiled map.
+		 *
+		 * @param name the event type
+		 * @return the action type
+		 */
+		public static Type forName(String name) {
+			Type type = BY_NAME.get(name);
+			if (type == null) {
+				// we don't have a handler for this type of event yet
+				throw new RuntimeException("unsupported event type: " + name);
+			}
+			return type;
+		}
+	}
+
+	private final Type type;
+	/** Name of the action as on the Tiled map, eg. the monster's name, or "prop=value" */
+	private final String name;
+	/** Resolved target, depending on type (null if it couldn't be resolved when compiled) */
+	private final String message;
+	private final SpawnDescriptor spawn;
+	private final AnimatedObstacle obstacle;
+	private final int propNameId;
+	private final int propValueId;
+
+	private EventAction(Type type, String name, String message, SpawnDescriptor spawn, AnimatedObstacle obstacle,
+						int propNameId, int propValueId) {
+		this.type = type;
+		this.name = name;
+		this.message = message;
+		this.spawn = spawn;
+		this.obstacle = obstacle;
+		this.propNameId = propNameId;
+		this.propValueId = propValueId;
+	}
+
+	public static EventAction message(String name, String message) {
+		return new EventAction(Type.MESSAGE, name, message, null, null, EventProperties.NONE, EventProperties.NONE);
+	}
+
+	public static EventAction spawn(Type type, String name, SpawnDescriptor spawn) {
+		return new EventAction(type, name, null, spawn, null, EventProperties.NONE, EventProperties.NONE);
+	}
+
+	public static EventAction set(String name, int propNameId, int propValueId) {
+		return new EventAction(Type.SET, name, null, null, null, propNameId, propValueId);
+	}
+
+	public static EventAction animate(String name, AnimatedObstacle obstacle) {
+		return new EventAction(Type.ANIMATE, name, null, null, obstacle, EventProperties.NONE, EventProperties.NONE);
+	}
+
+	public Type getType() {
+		return type;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	public SpawnDescriptor getSpawn() {
+		return spawn;
+	}
+
+	public AnimatedObstacle getObstacle() {
+		return obstacle;
+	}
+
+	public int getPropNameId() {
+		return propNameId;
+	}
+
+	public int getPropValueId() {
+		return propValueId;
+	}
+}
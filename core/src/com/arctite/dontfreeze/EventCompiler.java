@@ -0,0 +1,98 @@
+package com.arctite.dontfreeze;
+
+import com.arctite.dontfreeze.util.GameMessages;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapProperties;
+
+/**
+ * Compiles objects on the Events layer of the Tiled map into Events, once, when the chunk is built. The comma
+ * separated names and types become a list of typed EventActions with their targets resolved, and the requirements
+ * become ids in the world's event properties, so that nothing needs to be split or looked up by name when an event
+ * fires.
+ */
+public class EventCompiler {
+
+	/** Tiled properties of event objects */
+	private static final String TILED_PROP_ID = "id";
+	private static final String TILED_PROP_X = "x";
+	private static final String TILED_PROP_Y = "y";
+	private static final String TILED_PROP_WIDTH = "width";
+	private static final String TILED_PROP_HEIGHT = "height";
+	private static final String TILED_PROP_TYPE = "type";
+	private static final String TILED_PROP_EVENT_REQ = "req";
+	private static final String TILED_PROP_REPEAT = "repeat";
+
+	/**
+	 * Compiles an event object from the Tiled map.
+	 *
+	 * Spawn and animate targets are resolved in the given world, so its monsters, collectables and animated obstacles
+	 * must already have been added. The world may be null if the event has none of these.
+	 *
+	 * @param obj the object on the Events layer
+	 * @param props the world's event-set properties, which requirements and set actions are compiled against
+	 * @param world the world to resolve targets in
+	 * @return the compiled event
+	 */
+	public static Event compile(MapObject obj, EventProperties props, WorldScreen world) {
+		MapProperties tiledProps = obj.getProperties();
+		int id = tiledProps.get(TILED_PROP_ID, Integer.class);
+		float x = tiledProps.get(TILED_PROP_X, Float.class);
+		float y = tiledProps.get(TILED_PROP_Y, Float.class);
+		float width = tiledProps.get(TILED_PROP_WIDTH, Float.class);
+		float height = tiledProps.get(TILED_PROP_HEIGHT, Float.class);
+		boolean repeat = Boolean.parseBoolean(tiledProps.get(TILED_PROP_REPEAT, String.class));
+
+		String[] names = obj.getName().split(Event.COMMA);
+		String[] types = tiledProps.get(TILED_PROP_TYPE, String.class).split(Event.COMMA);
+		EventAction[] actions = new EventAction[types.length];
+		for (int i = 0; i < types.length; i++) {
+			actions[i] = compileAction(EventAction.Type.forName(types[i]), names[i], props, world);
+		}
+
+		Event event = new Event(id, (int) x, (int) y, width, height, repeat, actions);
+		if (tiledProps.containsKey(TILED_PROP_EVENT_REQ)) { // check and set requirements if any
+			String reqsLine = tiledProps.get(TILED_PROP_EVENT_REQ, String.class);
+			for (String req : reqsLine.split(Event.COMMA)) { // add all requirements
+				String[] split;
+				boolean equals;
+				if (req.contains(Event.EQUALS)) {
+					split = req.split(Event.EQUALS);
+					equals = true;
+				} else if (req.contains(Event.DIFFERS)) {
+					split = req.split(Event.DIFFERS);
+					equals = false;
+				} else {
+					throw new RuntimeException("requirement '" + req + "' has no '=' or '<>'");
+				}
+				event.addRequirement(equals, split[0], split[1], props);
+			}
+		}
+		return event;
+	}
+
+	/**
+	 * Compiles one of an event's actions. Targets that can't be resolved are left null, so that the action fails when
+	 * it fires, as it always has, rather than stopping the chunk from loading.
+	 */
+	private static EventAction compileAction(EventAction.Type type, String name, EventProperties props,
+											 WorldScreen world) {
+		switch (type) {
+			case MESSAGE:
+				return EventAction.message(name, GameMessages.hasMessage(name) ? GameMessages.getMessage(name) : null);
+			case SPAWN_MONSTER:
+				return EventAction.spawn(type, name, world.getSpawnableMonster(name));
+			case SPAWN_COLLECTABLE:
+				return EventAction.spawn(type, name, world.getSpawnableCollectable(name));
+			case SET:
+				String[] split = name.split(Event.EQUALS);
+				return EventAction.set(name, props.getNameId(split[0]), props.getValueId(split[1]));
+			case ANIMATE:
+				return EventAction.animate(name, world.getAnimatedObstacle(name));
+			default:
+				throw new RuntimeException("unsupported event type: " + type);
+		}
+	}
+
+	private EventCompiler() {
+	}
+}
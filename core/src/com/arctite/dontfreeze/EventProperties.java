@@ -0,0 +1,177 @@
+package com.arctite.dontfreeze;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+
+/**
+ * The properties set by set-type Events, eg. "door=open", which other events can require.
+ *
+ * Property names and values are interned to integer ids, so that events can compile their requirements to ids once
+ * when the map is loaded, and checking them is just comparing ints. Properties set to true or false are kept as
+ * bits, and the rest as value ids.
+ *
+ * Properties are the same across every chunk, and are saved together as one string of name=value pairs, by name since
+ * each world interns its own ids.
+ */
+public class EventProperties {
+
+	/** Value id of a property that hasn't been set */
+	public static final int NONE = -1;
+	/** Value ids of true and false, which are interned first */
+	public static final int TRUE = 0;
+	public static final int FALSE = 1;
+
+	/** Interned names and values, by id, and their ids */
+	private final ArrayList<String> names;
+	private final HashMap<String, Integer> nameIds;
+	private final ArrayList<String> values;
+	private final HashMap<String, Integer> valueIds;
+	/** Value id of each property that isn't true or false, by name id */
+	private int[] current;
+	/** Which properties are true or false, and which of them are true, by name id */
+	private final BitSet flagged;
+	private final BitSet flags;
+
+	/**
+	 * Creates an empty set of event properties.
+	 */
+	public EventProperties() {
+		this.names = new ArrayList<String>();
+		this.nameIds = new HashMap<String, Integer>();
+		this.values = new ArrayList<String>();
+		this.valueIds = new HashMap<String, Integer>();
+		this.current = new int[8];
+		Arrays.fill(current, NONE);
+		this.flagged = new BitSet();
+		this.flags = new BitSet();
+		getValueId(Boolean.TRUE.toString());
+		getValueId(Boolean.FALSE.toString());
+	}
+
+	/**
+	 * Gets the id of the given property name, giving it one if it doesn't have one yet.
+	 *
+	 * @param name the property name
+	 * @return id of the name
+	 */
+	public int getNameId(String name) {
+		Integer id = nameIds.get(name);
+		if (id == null) {
+			id = names.size();
+			names.add(name);
+			nameIds.put(name, id);
+			if (id == current.length) {
+				int oldLength = current.length;
+				current = Arrays.copyOf(current, oldLength * 2);
+				Arrays.fill(current, oldLength, current.length, NONE);
+			}
+		}
+		return id;
+	}
+
+	/**
+	 * Gets the id of the given property value, giving it one if it doesn't have one yet.
+	 *
+	 * @param value the property value
+	 * @return id of the value
+	 */
+	public int getValueId(String value) {
+		Integer id = valueIds.get(value);
+		if (id == null) {
+			id = values.size();
+			values.add(value);
+			valueIds.put(value, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Sets a property.
+	 *
+	 * @param name property name
+	 * @param value property value
+	 */
+	public void set(String name, String value) {
+		set(getNameId(name), getValueId(value));
+	}
+
+	/**
+	 * Sets a property, by the ids of its name and value.
+	 *
+	 * @param nameId id of the property name
+	 * @param valueId id of the property value
+	 */
+	public void set(int nameId, int valueId) {
+		if (valueId == TRUE || valueId == FALSE) {
+			flagged.set(nameId);
+			flags.set(nameId, valueId == TRUE);
+		} else {
+			flagged.clear(nameId);
+			current[nameId] = valueId;
+		}
+	}
+
+	/**
+	 * Gets the value id of a property, by the id of its name.
+	 *
+	 * @param nameId id of the property name
+	 * @return id of its value, or NONE if it hasn't been set
+	 */
+	public int get(int nameId) {
+		if (flagged.get(nameId)) {
+			return flags.get(nameId) ? TRUE : FALSE;
+		}
+		return current[nameId];
+	}
+
+	/**
+	 * Sets every property in the given saved string, as made by write().
+	 *
+	 * @param saved the saved properties, may be empty
+	 */
+	public void read(String saved) {
+		if (saved.isEmpty()) {
+			return;
+		}
+		for (String pair : saved.split(Event.COMMA)) {
+			String[] split = pair.split(Event.EQUALS);
+			set(split[0], split[1]);
+		}
+	}
+
+	/**
+	 * Writes the properties that are set to a string for saving, along with any in the given previously saved string
+	 * that aren't set here (ie. set in other chunks since this world was loaded).
+	 *
+	 * @param previous the previously saved properties, may be empty
+	 * @return the properties to save
+	 */
+	public String write(String previous) {
+		StringBuilder sb = new StringBuilder();
+		if (!previous.isEmpty()) {
+			for (String pair : previous.split(Event.COMMA)) {
+				String name = pair.substring(0, pair.indexOf(Event.EQUALS));
+				Integer nameId = nameIds.get(name);
+				if (nameId == null || get(nameId) == NONE) {
+					append(sb, pair);
+				}
+			}
+		}
+		for (int i = 0; i < names.size(); i++) {
+			int valueId = get(i);
+			if (valueId != NONE) {
+				append(sb, names.get(i) + Event.EQUALS + values.get(valueId));
+			}
+		}
+		return sb.toString();
+	}
+
+	private static void append(StringBuilder sb, String pair) {
+		if (sb.length() > 0) {
+			sb.append(Event.COMMA);
+		}
+		sb.append(pair);
+	}
+}
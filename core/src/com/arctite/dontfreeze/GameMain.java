@@ -4,22 +4,43 @@ import com.arctite.dontfreeze.entities.Direction;
 import com.arctite.dontfreeze.entities.player.Player;
 import com.arctite.dontfreeze.entities.player.WorldInputHandler;
 import com.arctite.dontfreeze.ui.SkinManager;
+import com.arctite.dontfreeze.util.AssetFiles;
+import com.arctite.dontfreeze.util.AtlasManager;
+import com.arctite.dontfreeze.util.BackgroundSimulator;
+import com.arctite.dontfreeze.util.ChunkStreamer;
 import com.arctite.dontfreeze.util.GameMessages;
+import com.arctite.dontfreeze.util.PreparedTmxMapLoader;
+import com.arctite.dontfreeze.util.ResourceInfo;
+import com.arctite.dontfreeze.util.ResourceManager;
 import com.arctite.dontfreeze.util.SaveManager;
 import com.arctite.dontfreeze.util.SoundManager;
+import com.arctite.dontfreeze.util.SoundManager.SoundInfo;
+import com.arctite.dontfreeze.util.StartupLoader;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton.TextButtonStyle;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
 /**
  * Main class of Don't Freeze!
  *
@@ -36,6 +57,12 @@ public class GameMain extends Game {
 	/** Width of the game window across all platforms */
 	public static final int GAME_WINDOW_HEIGHT = 480;
 
+	/**
+	 * Time in nanoseconds that may be spent building the next world each frame, while the current screen fades out or
+	 * while a streamed neighbour is being got ready
+	 */
+	private static final long BUILD_BUDGET_NANOS = 4000000L; // 4ms
+
 	/** The single SpriteBatch which renders the entire game, all the screens */
 	private SpriteBatch spriteBatch;
 
@@ -48,6 +75,35 @@ public class GameMain extends Game {
 
 	/** Direction flag for use by the setWorldChangeMap method */
 	private Direction changeMapDir;
+	/** Keeps the chunks around the player loaded, null unless streaming is turned on in the settings */
+	private ChunkStreamer chunkStreamer;
+	/** Carries on simulating chunks after the player leaves them, null if turned off in the settings */
+	private BackgroundSimulator backgroundSimulator;
+	/** Built worlds of the current world's streamed neighbours, which it draws the entities of and can change into */
+	private ArrayList<WorldScreen> neighbourWorlds;
+	/** Streamed neighbour's world being built a little each frame, or null */
+	private WorldScreen buildingNeighbour;
+	/**
+	 * World being built a little each frame while the current screen fades out, and the change it's for. If the type
+	 * is null, the world is being built speculatively while the menu is idle, for whichever change wants its chunk.
+	 */
+	private WorldScreen pendingWorld;
+	private ChangeType pendingType;
+	/** Whether the menu is idle, and the world the player will most likely go into is being got ready */
+	private boolean speculating;
+	/** Thread the save file is read ahead of time on, while the menu is up */
+	private ExecutorService saveReader;
+	/** Save file being read ahead of time, and once it has been, its data */
+	private Future<SaveManager> speculativeSaveRead;
+	private SaveManager speculativeSave;
+	/** Player loaded from the save file for the pending world, if it's for WORLD_LOAD_GAME */
+	private Player pendingPlayer;
+	/** Screen that has been replaced, released next frame since it still finishes the frame it was replaced in */
+	private Screen retiredScreen;
+	/** Loads everything in the background while the loading screen is up, null once startup has finished */
+	private StartupLoader startupLoader;
+	/** When create() was called, for timing startup */
+	private long startNanos;
 
 	/**
 	 * Enum used to decide which method to call after a fade out of an AbstractScreen.
@@ -81,10 +137,33 @@ public class GameMain extends Game {
 	 * Initialises a new WorldScreen and transitions to that screen.
 	 */
 	private void setWorldNewGame() {
-		world = new WorldScreen(this, worldInputHandler, null, spriteBatch);
+		WorldScreen oldWorld = world;
+		world = takePendingWorld(ChangeType.WORLD_NEW_GAME);
+		discardNeighbourWorlds(true);
+		world.attachPlayer(null);
 		// new game, so clear save manager
 		SaveManager.getSaveManager().clearAll();
+		if (backgroundSimulator != null) {
+			backgroundSimulator.clear();
+		}
+		// with nothing saved, this places the chunk's monsters and collectables as they are by default
+		world.loadValues();
 		setScreen(world);
+		disposeLater(oldWorld);
+	}
+
+	/**
+	 * Disposes of a screen that has been replaced, if there was one, at the start of next frame.
+	 *
+	 * @param oldScreen the replaced screen, or null
+	 */
+	private void disposeLater(Screen oldScreen) {
+		if (oldScreen != null) {
+			if (retiredScreen != null) {
+				retiredScreen.dispose();
+			}
+			retiredScreen = oldScreen;
+		}
 	}
 
 	/**
@@ -107,10 +186,8 @@ public class GameMain extends Game {
 			throw new IllegalStateException("setWorldChangeMapDirection() must be called before setWorldChangeMap()");
 		}
 
-		// de-aggro monsters in from-chunk
-		world.deaggroMonsters();
-		// save from-chunk's values
-		world.saveValues();
+		// save from-chunk's values, and hand it over to the background simulation
+		leaveChunk();
 
 		// calculate player's new chunk and coordinates within that new chunk
 		Player player = world.getPlayer();
@@ -138,37 +215,459 @@ public class GameMain extends Game {
 		// player.save(); // don't need to save player when changing maps
 		// don't save to file when changing maps
 
-		// load the new chunk into a new WorldScreen (dropping the old WorldScreen instance completely)
-		this.world = new WorldScreen(this, worldInputHandler, player, spriteBatch);
+		// the new chunk has been loaded into a new WorldScreen during the fade out (the old instance is dropped)
+		WorldScreen oldWorld = world;
+		this.world = takePendingWorld(ChangeType.WORLD_CHANGE_MAP);
+		world.attachPlayer(player);
 		world.loadValues();
 
 		// finally, new screen
 		setScreen(world);
+		disposeLater(oldWorld);
+	}
+
+	/**
+	 * Seamlessly changes to the streamed neighbouring chunk that the player has walked into. Like setWorldChangeMap(),
+	 * but the player and camera keep their positions relative to the world (moved into the new chunk's coordinates),
+	 * and the new WorldScreen doesn't fade in. The neighbour's world has normally been built over the previous frames
+	 * (see buildNeighbourWorlds()), and takes over the current world's ui. The current world then carries on as a
+	 * neighbour, so its monsters keep their aggro, and is only saved and handed to the background simulator once it
+	 * leaves the streaming window.
+	 *
+	 * Called between frames, once the current world has finished its frame.
+	 */
+	private void setWorldStreamChunk() {
+		Direction dir = world.getStreamDirection();
+		world.saveValues();
+
+		// shift player and camera from the old chunk's coordinates into the new chunk's
+		int dx = 0;
+		int dy = 0;
+		if (dir == Direction.LEFT) {
+			dx = -1;
+		} else if (dir == Direction.RIGHT) {
+			dx = 1;
+		} else if (dir == Direction.DOWN) {
+			dy = -1;
+		} else if (dir == Direction.UP) {
+			dy = 1;
+		}
+		float shiftX = dx * WorldScreen.CHUNK_WIDTH;
+		float shiftY = dy * WorldScreen.CHUNK_HEIGHT;
+		Player player = world.getPlayer();
+		player.setChunk(world.getChunkX() + dx, world.getChunkY() + dy);
+		player.setPosition(player.getX() - shiftX, player.getY() - shiftY);
+		float cameraX = world.getCameraX() - shiftX;
+		float cameraY = world.getCameraY() - shiftY;
+
+		WorldScreen oldWorld = world;
+		this.world = takeNeighbourWorld(player.getChunkX(), player.getChunkY());
+		world.takeOver(oldWorld);
+		oldWorld.detachPlayer();
+		world.attachPlayer(player);
+		world.setCameraPosition(cameraX, cameraY);
+		world.skipFadeIn();
+		setScreen(world);
+		neighbourWorlds.add(oldWorld);
+		discardNeighbourWorlds(false);
+	}
+
+	/**
+	 * Keeps the worlds of the current world's streamed neighbours ready: throws away those that aren't neighbours any
+	 * more, and builds a little of the world of a neighbour in view, the one nearest the player first. That way the
+	 * world the player is about to walk into is normally built well before they're STREAM_MARGIN over the border, and
+	 * the entities of the neighbours in view are drawn in the meantime.
+	 *
+	 * Called every frame while streaming, between frames.
+	 */
+	private void buildNeighbourWorlds() {
+		discardNeighbourWorlds(false);
+		if (buildingNeighbour == null) {
+			ChunkStreamer.Chunk chunk = findNeighbourToBuild();
+			if (chunk == null) {
+				return;
+			}
+			buildingNeighbour = new WorldScreen(this, worldInputHandler, spriteBatch, chunk.getChunkX(),
+					chunk.getChunkY(), true);
+		}
+		if (buildingNeighbour.build(BUILD_BUDGET_NANOS)) {
+			buildingNeighbour.loadValues();
+			neighbourWorlds.add(buildingNeighbour);
+			buildingNeighbour = null;
+		}
+	}
+
+	/**
+	 * Finds the streamed neighbour in view that is nearest the player and doesn't have a world yet.
+	 *
+	 * @return the neighbour's chunk, or null if every neighbour in view has a world
+	 */
+	private ChunkStreamer.Chunk findNeighbourToBuild() {
+		Player player = world.getPlayer();
+		float centreX = player.getX() + (player.getWidth() / 2);
+		float centreY = player.getY() + (player.getHeight() / 2);
+		ChunkStreamer.Chunk nearest = null;
+		float nearestDist = 0;
+		for (ChunkStreamer.Chunk chunk : world.getVisibleNeighbours()) {
+			if (getNeighbourWorld(chunk.getChunkX(), chunk.getChunkY()) != null) {
+				continue;
+			}
+			// distance from the player's centre to the chunk, in the current world's coordinates
+			float left = (chunk.getChunkX() - world.getChunkX()) * WorldScreen.CHUNK_WIDTH;
+			float bottom = (chunk.getChunkY() - world.getChunkY()) * WorldScreen.CHUNK_HEIGHT;
+			float dx = Math.max(0, Math.max(left - centreX, centreX - (left + WorldScreen.CHUNK_WIDTH)));
+			float dy = Math.max(0, Math.max(bottom - centreY, centreY - (bottom + WorldScreen.CHUNK_HEIGHT)));
+			float dist = (dx * dx) + (dy * dy);
+			if (nearest == null || dist < nearestDist) {
+				nearest = chunk;
+				nearestDist = dist;
+			}
+		}
+		return nearest;
+	}
+
+	/**
+	 * Takes the world of the given streamed neighbour, to change into it. If it hasn't finished building yet, it's
+	 * finished off in one go.
+	 */
+	private WorldScreen takeNeighbourWorld(int chunkX, int chunkY) {
+		WorldScreen next = getNeighbourWorld(chunkX, chunkY);
+		if (next != null) {
+			neighbourWorlds.remove(next);
+			return next;
+		}
+		if (buildingNeighbour != null && buildingNeighbour.getChunkX() == chunkX
+				&& buildingNeighbour.getChunkY() == chunkY) {
+			next = buildingNeighbour;
+			buildingNeighbour = null;
+		} else {
+			next = new WorldScreen(this, worldInputHandler, spriteBatch, chunkX, chunkY, true);
+		}
+		next.finishBuilding();
+		next.loadValues();
+		return next;
+	}
+
+	/**
+	 * Gets the built world of one of the current world's streamed neighbours.
+	 *
+	 * @param chunkX x coordinate of the neighbour's chunk
+	 * @param chunkY y coordinate of the neighbour's chunk
+	 * @return the neighbour's world, or null if it hasn't been built
+	 */
+	private WorldScreen getNeighbourWorld(int chunkX, int chunkY) {
+		for (int i = 0; i < neighbourWorlds.size(); i++) {
+			WorldScreen neighbour = neighbourWorlds.get(i);
+			if (neighbour.getChunkX() == chunkX && neighbour.getChunkY() == chunkY) {
+				return neighbour;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the built worlds of the current world's streamed neighbours, which the current world steps along with
+	 * itself.
+	 *
+	 * @return the neighbours' worlds, empty if not streaming
+	 */
+	public List<WorldScreen> getNeighbourWorlds() {
+		return neighbourWorlds;
+	}
+
+	/**
+	 * Disposes of the worlds of chunks that are no longer neighbours of the current world, or of all of them. When
+	 * carrying on streaming, the chunks left behind are saved, since their monsters have carried on while they were
+	 * neighbours, and handed to the background simulator like any other chunk the player leaves (see leaveChunk()).
+	 *
+	 * @param all whether to dispose of all of them, eg. when the current world is being replaced by a fade
+	 */
+	private void discardNeighbourWorlds(boolean all) {
+		for (int i = neighbourWorlds.size() - 1; i >= 0; i--) {
+			WorldScreen neighbour = neighbourWorlds.get(i);
+			if (all || !isNeighbour(neighbour)) {
+				neighbourWorlds.remove(i);
+				neighbour.removeHealthBars();
+				if (!all) {
+					if (backgroundSimulator == null) {
+						neighbour.deaggroMonsters();
+					}
+					neighbour.saveChunkValues();
+					if (backgroundSimulator != null) {
+						backgroundSimulator.leave(neighbour.createChunkState());
+					}
+				}
+				neighbour.dispose();
+			}
+		}
+		if (buildingNeighbour != null && (all || !isNeighbour(buildingNeighbour))) {
+			buildingNeighbour.dispose();
+			buildingNeighbour = null;
+		}
+	}
+
+	/**
+	 * Checks whether the given world's chunk is next to (or diagonal to) the current world's.
+	 */
+	private boolean isNeighbour(WorldScreen other) {
+		int dx = Math.abs(other.getChunkX() - world.getChunkX());
+		int dy = Math.abs(other.getChunkY() - world.getChunkY());
+		return (dx != 0 || dy != 0) && dx <= 1 && dy <= 1;
+	}
+
+	/**
+	 * Saves the current world's chunk as the player leaves it. If the chunk will be simulated in the background, its
+	 * monsters keep their aggro (which wears off there), otherwise they're de-aggroed first.
+	 */
+	private void leaveChunk() {
+		if (backgroundSimulator == null) {
+			// de-aggro monsters in from-chunk
+			world.deaggroMonsters();
+		}
+		world.saveValues();
+		if (backgroundSimulator != null) {
+			backgroundSimulator.leave(world.createChunkState());
+		}
+	}
+
+	/**
+	 * Gets the background simulator.
+	 *
+	 * @return the background simulator, or null if turned off
+	 */
+	public BackgroundSimulator getBackgroundSimulator() {
+		return backgroundSimulator;
+	}
+
+	/**
+	 * Gets the chunk streamer.
+	 *
+	 * @return the chunk streamer, or null if not streaming
+	 */
+	public ChunkStreamer getChunkStreamer() {
+		return chunkStreamer;
 	}
 
 	/**
 	 * Loads a WorldScreen from the save file and transitions to that screen.
 	 */
 	private void setWorldLoadGame() {
-		// load save manager and get the map chunk to load
-		SaveManager.getSaveManager().load();
-		// load player info first
-		Player player = new Player(null, null, 0, 0);
-		player.load();
-		world = new WorldScreen(this, worldInputHandler, player, spriteBatch);
+		// the save manager and player info were loaded when the world started being built
+		WorldScreen oldWorld = world;
+		world = takePendingWorld(ChangeType.WORLD_LOAD_GAME);
+		discardNeighbourWorlds(true);
+		Player player = pendingPlayer;
+		pendingPlayer = null;
+		if (backgroundSimulator != null) { // anything still being simulated is from before the save was loaded
+			backgroundSimulator.clear();
+		}
+		world.attachPlayer(player);
 		// load the world
 		world.loadValues();
 		// finally, swap into it
 		setScreen(world);
+		disposeLater(oldWorld);
 	}
 
 	/**
 	 * Transitions to the menu screen.
 	 */
 	private void setMenu() {
+		discardNeighbourWorlds(true);
 		setScreen(menu);
 	}
 
+	/**
+	 * Gets the screen for the given change ready, a little at a time. Called every frame while the current screen
+	 * fades out, so that building the next world doesn't freeze the fade at full black. The screen isn't changed until
+	 * this returns true.
+	 *
+	 * @param type the change that will be made once faded out
+	 * @return whether the screen for the change is ready
+	 */
+	public boolean prepareScreen(ChangeType type) {
+		if (type == ChangeType.MENU) {
+			return true; // menu is always there
+		}
+		if (pendingWorld == null || pendingType != type) {
+			int[] chunk = getTargetChunk(type);
+			speculating = false;
+			speculativeSave = null;
+			if (pendingWorld == null || pendingType != null || pendingWorld.getChunkX() != chunk[0]
+					|| pendingWorld.getChunkY() != chunk[1]) {
+				disposeLater(pendingWorld);
+				pendingWorld = new WorldScreen(this, worldInputHandler, spriteBatch, chunk[0], chunk[1]);
+				SoundManager.prefetchMusic(chunk[0], chunk[1]);
+			} // otherwise the world built speculatively is the right one, so carry on with it
+			pendingType = type;
+		}
+		return pendingWorld.build(BUILD_BUDGET_NANOS);
+	}
+
+	/**
+	 * Starts getting the world that the player will most likely go into from the menu ready: the chunk they saved in,
+	 * or the new game chunk if there's no save. The save file is read on another thread, and the world is built by
+	 * speculate(). Called when the menu becomes idle.
+	 */
+	public void startSpeculation() {
+		if (speculating) {
+			return;
+		}
+		speculating = true;
+		if (SaveManager.saveFileExists()) {
+			if (saveReader == null) {
+				saveReader = Executors.newSingleThreadExecutor(new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, "save-reader");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+			}
+			speculativeSaveRead = saveReader.submit(new Callable<SaveManager>() {
+				@Override
+				public SaveManager call() {
+					return SaveManager.readSaveFile();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Builds the speculative world a little. Called every frame while the menu is idle.
+	 */
+	public void speculate() {
+		if (!speculating) {
+			return;
+		}
+		if (pendingWorld == null) {
+			int[] chunk;
+			if (speculativeSaveRead != null) {
+				if (!speculativeSaveRead.isDone()) {
+					return; // still reading
+				}
+				speculativeSave = takeSpeculativeSave();
+				chunk = getSavedChunk(speculativeSave);
+			} else {
+				chunk = WorldScreen.getNewGameChunk();
+			}
+			pendingWorld = new WorldScreen(this, worldInputHandler, spriteBatch, chunk[0], chunk[1]);
+			pendingType = null;
+			SoundManager.prefetchMusic(chunk[0], chunk[1]);
+			if (chunkStreamer != null) {
+				chunkStreamer.recentre(chunk[0], chunk[1]);
+			}
+		}
+		if (chunkStreamer != null
+				&& chunkStreamer.getLoadedChunk(pendingWorld.getChunkX(), pendingWorld.getChunkY()) == null) {
+			return; // let the streamer load the chunk over the next frames, rather than wait for it here
+		}
+		pendingWorld.build(BUILD_BUDGET_NANOS);
+	}
+
+	/**
+	 * Stops getting a world ready speculatively, and throws away what has been done so far. Called when the player
+	 * does something other than start playing from the menu.
+	 */
+	public void cancelSpeculation() {
+		speculating = false;
+		if (speculativeSaveRead != null) {
+			speculativeSaveRead.cancel(true);
+			speculativeSaveRead = null;
+		}
+		speculativeSave = null;
+		if (pendingWorld != null && pendingType == null) {
+			disposeLater(pendingWorld);
+			pendingWorld = null;
+		}
+	}
+
+	/**
+	 * Takes the save file read ahead of time, waiting for it to finish being read if need be.
+	 *
+	 * @return the read save, or null if it wasn't being read
+	 */
+	private SaveManager takeSpeculativeSave() {
+		if (speculativeSaveRead == null) {
+			return speculativeSave;
+		}
+		try {
+			return speculativeSaveRead.get();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException("couldn't read save file", e.getCause());
+		} finally {
+			speculativeSaveRead = null;
+		}
+	}
+
+	/**
+	 * Gets the chunk that the player was saved in, or the new game chunk if they haven't been saved.
+	 *
+	 * @return { chunk x, chunk y }
+	 */
+	private static int[] getSavedChunk(SaveManager save) {
+		Integer chunkX = save.getDataValue(SaveManager.PLAYER_CHUNK_X, Integer.class);
+		Integer chunkY = save.getDataValue(SaveManager.PLAYER_CHUNK_Y, Integer.class);
+		if (chunkX == null || chunkY == null) {
+			return WorldScreen.getNewGameChunk();
+		}
+		return new int[] { chunkX, chunkY };
+	}
+
+	/**
+	 * Gets the chunk that the world for the given change will be in. For WORLD_LOAD_GAME, this loads the save file
+	 * and the player's info from it.
+	 *
+	 * @return { chunk x, chunk y }
+	 */
+	private int[] getTargetChunk(ChangeType type) {
+		switch (type) {
+			case WORLD_NEW_GAME:
+				return WorldScreen.getNewGameChunk();
+			case WORLD_LOAD_GAME:
+				// load save manager (unless it was read ahead of time) and get the map chunk to load
+				SaveManager read = takeSpeculativeSave();
+				if (read != null) {
+					SaveManager.getSaveManager().loadFrom(read);
+				} else {
+					SaveManager.getSaveManager().load();
+				}
+				pendingPlayer = new Player(null, null, 0, 0);
+				pendingPlayer.load();
+				return new int[] { pendingPlayer.getChunkX(), pendingPlayer.getChunkY() };
+			case WORLD_CHANGE_MAP:
+				if (changeMapDir == null) {
+					throw new IllegalStateException("setWorldChangeMapDirection() must be called before setWorldChangeMap()");
+				}
+				int mapX = world.getChunkX();
+				int mapY = world.getChunkY();
+				if (changeMapDir == Direction.LEFT) mapX--;
+				else if (changeMapDir == Direction.RIGHT) mapX++;
+				else if (changeMapDir == Direction.DOWN) mapY--;
+				else if (changeMapDir == Direction.UP) mapY++;
+				return new int[] { mapX, mapY };
+			default:
+				throw new IllegalArgumentException("no world for change type " + type);
+		}
+	}
+
+	/**
+	 * Takes the pending world for the given change, finishing building it first if the fade out was quicker.
+	 */
+	private WorldScreen takePendingWorld(ChangeType type) {
+		if (pendingWorld == null || pendingType != type) {
+			prepareScreen(type);
+		}
+		WorldScreen built = pendingWorld;
+		built.finishBuilding();
+		pendingWorld = null;
+		pendingType = null;
+		return built;
+	}
+
 	/**
 	 * Calls the corresponding change method, given the type enum.
 	 *
@@ -192,7 +691,7 @@ public class GameMain extends Game {
 	}
 
 	/**
-	 * Adds extra functionality: changes music to new screen's.
+	 * Adds extra functionality: crossfades the music to the new screen's.
 	 *
 	 * @param screen the screen we're changing to
 	 */
@@ -201,41 +700,246 @@ public class GameMain extends Game {
 		super.setScreen(screen);
 
 		// change music
-		SoundManager.stopCurrentMusic();
-		// play new music
 		if (screen instanceof MenuScreen) {
 			SoundManager.playMusic(SoundManager.MENU_BG_MUSIC);
 		} else if (screen instanceof WorldScreen) {
 			WorldScreen world = (WorldScreen) screen;
-			// play music for this chunk
+			// play music for this chunk, and get the chunks' around it ready
 			SoundManager.playMusic(world.getChunkX(), world.getChunkY());
+			SoundManager.prefetchNeighbourMusic(world.getChunkX(), world.getChunkY());
 		}
 	}
 
 	@Override
 	public void create() {
+		startNanos = System.nanoTime();
+
+		// serve assets out of the asset pack, if there is one (while developing, edited loose assets can be used instead)
+		SaveManager settings = SaveManager.getSettings();
+		AssetFiles.openPack(Boolean.TRUE.equals(settings.getDataValue(SaveManager.LOOSE_ASSETS, Boolean.class)));
+
 		// initialise sprite batch
-		this.spriteBatch = new SpriteBatch();
+		this.spriteBatch = ResourceManager.acquire(GameMain.class, new SpriteBatch());
 
 		// load input handler
 		this.worldInputHandler = new WorldInputHandler();
+		this.neighbourWorlds = new ArrayList<WorldScreen>();
 
 		// load settings
-		SaveManager settings = SaveManager.getSettings();
 		float volume = settings.getDataValue(SaveManager.VOLUME, Float.class);
 		SoundManager.setEnabled(volume > 0);
+		if (Boolean.TRUE.equals(settings.getDataValue(SaveManager.STREAM_CHUNKS, Boolean.class))) {
+			this.chunkStreamer = ResourceManager.acquire(GameMain.class, WorldScreen.newChunkStreamer(spriteBatch));
+		}
+		// background simulation limits (older settings files won't have them)
+		Float simRate = settings.getDataValue(SaveManager.BACKGROUND_SIM_RATE, Float.class);
+		Integer simChunks = settings.getDataValue(SaveManager.BACKGROUND_SIM_CHUNKS, Integer.class);
+		if (simRate == null) {
+			simRate = BackgroundSimulator.DEFAULT_TICK_RATE;
+		}
+		if (simChunks == null) {
+			simChunks = BackgroundSimulator.DEFAULT_MAX_CHUNKS;
+		}
+		if (simRate > 0 && simChunks > 0) {
+			this.backgroundSimulator = new BackgroundSimulator(simRate, simChunks);
+			backgroundSimulator.start();
+		}
+
+		// everything else loads in the background, behind the loading screen, which then changes over to the menu
+		this.startupLoader = new StartupLoader();
+		queueStartupLoading();
+		setScreen(new LoadingScreen(this, spriteBatch, startupLoader));
+	}
+
+	/**
+	 * Queues up everything that's loaded at startup.
+	 */
+	private void queueStartupLoading() {
+		// sounds are decoded in parallel, then handed to the SoundManager
+		for (final SoundInfo info : SoundInfo.values()) {
+			startupLoader.submit(new Callable<List<Runnable>>() {
+				@Override
+				public List<Runnable> call() {
+					final Sound sound = SoundManager.loadSound(info);
+					final float length = SoundManager.loadLength(info);
+					return Collections.<Runnable>singletonList(new Runnable() {
+						@Override
+						public void run() {
+							SoundManager.addSound(info, sound, length);
+						}
+					});
+				}
+			});
+		}
 
-		// load sounds
-		SoundManager.loadSounds();
+		// event-triggered messages, and tuned entity stats (nothing uses them until the menu is up)
+		startupLoader.submit(new Callable<List<Runnable>>() {
+			@Override
+			public List<Runnable> call() {
+				GameMessages.loadMessages();
+				ResourceInfo.loadData();
+				return Collections.emptyList();
+			}
+		});
 
-		// initialise skins
-		SkinManager.loadSkins();
+		// skins are small and generated, so are made on the GL thread in one go
+		startupLoader.submit(new Callable<List<Runnable>>() {
+			@Override
+			public List<Runnable> call() {
+				return Collections.<Runnable>singletonList(new Runnable() {
+					@Override
+					public void run() {
+						SkinManager.loadSkins();
+					}
+				});
+			}
+		});
 
-		// load event-triggered messages from file
-		GameMessages.loadMessages();
+		// the menu's music is opened in the background too, ready to play
+		SoundManager.prefetchMusic(SoundManager.MENU_BG_MUSIC);
 
-		// lastly, create screen and change over
-		menu = new MenuScreen(this, spriteBatch);
+		// textures: entity sprites (the menu's decorations use them), the menu's own, and the fade
+		startupLoader.loadAtlas(getStartupAtlasLocation());
+		MenuScreen.preload(startupLoader);
+		startupLoader.loadTexture(AbstractScreen.getTransitionLocation());
+
+		// the chunk the player will most likely load into
+		if (SaveManager.saveFileExists()) {
+			startupLoader.submit(new Callable<List<Runnable>>() {
+				@Override
+				public List<Runnable> call() {
+					return preloadSavedChunk();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Gets where the entity atlas loaded at startup is: the packed atlas if there is one, otherwise the menu's
+	 * decorations' own atlas.
+	 */
+	private static String getStartupAtlasLocation() {
+		return AtlasManager.hasPacked() ? AtlasManager.PACKED_ATLAS : ResourceInfo.SNOW_BABY.getLocation();
+	}
+
+	/**
+	 * Loads the save file and preloads the map of the chunk it was saved in. Called on a worker thread.
+	 *
+	 * @return the GL tasks that finish the preload
+	 */
+	private List<Runnable> preloadSavedChunk() {
+		SaveManager saver = SaveManager.getSaveManager();
+		saver.load();
+		final Integer chunkX = saver.getDataValue(SaveManager.PLAYER_CHUNK_X, Integer.class);
+		final Integer chunkY = saver.getDataValue(SaveManager.PLAYER_CHUNK_Y, Integer.class);
+		if (chunkX == null || chunkY == null) {
+			return Collections.emptyList(); // nothing saved yet
+		}
+		List<Runnable> tasks = new ArrayList<Runnable>();
+		if (chunkStreamer != null) {
+			// the streamer loads it (and its neighbours) itself, over the next frames
+			tasks.add(new Runnable() {
+				@Override
+				public void run() {
+					chunkStreamer.recentre(chunkX, chunkY);
+				}
+			});
+			return tasks;
+		}
+		final PreparedTmxMapLoader mapLoader = new PreparedTmxMapLoader(AssetFiles.RESOLVER);
+		mapLoader.prepare(WorldScreen.getMapFile(chunkX, chunkY));
+		for (int i = 0; i < mapLoader.getImageCount(); i++) {
+			final int index = i;
+			tasks.add(new Runnable() {
+				@Override
+				public void run() {
+					mapLoader.upload(index);
+				}
+			});
+		}
+		tasks.add(new Runnable() {
+			@Override
+			public void run() {
+				WorldScreen.setPreloadedMap(chunkX, chunkY, mapLoader.finish());
+			}
+		});
+		return tasks;
+	}
+
+	/**
+	 * Called by the loading screen once everything has loaded: hands the loaded textures over to where they're used,
+	 * and changes over to the menu.
+	 */
+	void finishStartup() {
+		TextureAtlas atlas = startupLoader.take(getStartupAtlasLocation(), TextureAtlas.class);
+		if (atlas != null) {
+			AtlasManager.preload(AtlasManager.hasPacked() ? null : ResourceInfo.SNOW_BABY, atlas);
+		}
+		Texture transition = startupLoader.take(AbstractScreen.getTransitionLocation(), Texture.class);
+		if (transition != null) {
+			AbstractScreen.preloadTransition(transition);
+		}
+		menu = new MenuScreen(this, spriteBatch, startupLoader);
+		startupLoader.dispose();
+		startupLoader = null;
+
+		Screen loadingScreen = getScreen();
 		setScreen(menu);
+		disposeLater(loadingScreen);
+		reportStartupTime("interactive");
+	}
+
+	/**
+	 * Prints how long it's been since the game was started.
+	 *
+	 * @param milestone what has been reached
+	 */
+	void reportStartupTime(String milestone) {
+		System.out.printf("startup: time to %s %.1f ms%n", milestone, (System.nanoTime() - startNanos) / 1000000F);
+	}
+
+	/**
+	 * Adds extra functionality: performs any streamed chunk change that the world requested during the frame (or else
+	 * gets its neighbours' worlds ready), and keeps the streamer loading while the world isn't up (eg. the chunk
+	 * preloaded at startup).
+	 */
+	@Override
+	public void render() {
+		if (retiredScreen != null) {
+			retiredScreen.dispose();
+			retiredScreen = null;
+		}
+		super.render();
+		SoundManager.update(Gdx.graphics.getDeltaTime());
+
+		if (chunkStreamer != null && (getScreen() != world || world == null)) {
+			chunkStreamer.update();
+		}
+
+		if (getScreen() == world && world != null && world.isStreaming() && !world.isTransitioning()) {
+			if (world.getStreamDirection() != null) {
+				setWorldStreamChunk();
+			} else {
+				buildNeighbourWorlds();
+			}
+		}
+	}
+
+	@Override
+	public void dispose() {
+		super.dispose();
+		if (startupLoader != null) {
+			startupLoader.dispose();
+		}
+		if (saveReader != null) {
+			saveReader.shutdownNow();
+		}
+		if (backgroundSimulator != null) {
+			backgroundSimulator.dispose();
+		}
+		WorldScreen.clearPreloadedMap();
+		SoundManager.dispose();
+		// worlds, menu, streamed chunks, and everything application-wide
+		ResourceManager.releaseAll();
 	}
 }
@@ -0,0 +1,110 @@
+package com.arctite.dontfreeze;
+
+import com.arctite.dontfreeze.util.ResourceManager;
+import com.arctite.dontfreeze.util.StartupLoader;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * Screen shown while the game starts up. Drives the StartupLoader a few milliseconds each frame, and draws a progress
+ * bar, which needs nothing loaded but a single pixel.
+ */
+public class LoadingScreen extends AbstractScreen {
+
+	/** Time in nanoseconds that the loader may spend on the GL thread each frame */
+	private static final long LOAD_BUDGET_NANOS = 8000000L; // 8ms
+	/** Progress bar dimensions */
+	private static final int BAR_WIDTH = 300;
+	private static final int BAR_HEIGHT = 10;
+	/** Width of the highlight that sweeps along the filled part of the bar, and how many times a second it does */
+	private static final int SHINE_WIDTH = 40;
+	private static final float SHINE_SPEED = 0.8F;
+	/** How quickly the bar catches up with actual progress */
+	private static final float BAR_CATCH_UP = 4.0F;
+	private static final Color BAR_BACK = new Color(0.15F, 0.15F, 0.2F, 1);
+	private static final Color BAR_FILL = new Color(0.55F, 0.75F, 0.95F, 1);
+	private static final Color BAR_SHINE = new Color(1, 1, 1, 0.35F);
+
+	private final StartupLoader loader;
+	private final OrthographicCamera camera;
+	private final Texture pixel;
+	/** Progress shown by the bar, eased towards actual progress */
+	private float shownProgress;
+	private float time;
+	private boolean firstFrameDone;
+
+	/**
+	 * Creates a LoadingScreen.
+	 *
+	 * @param game the Game object that this screen belongs to
+	 * @param spriteBatch the SpriteBatch that this game is using
+	 * @param loader the loader to drive
+	 */
+	public LoadingScreen(GameMain game, SpriteBatch spriteBatch, StartupLoader loader) {
+		super(game, spriteBatch);
+		this.loader = loader;
+		this.camera = new OrthographicCamera();
+		camera.setToOrtho(false, GameMain.GAME_WINDOW_WIDTH, GameMain.GAME_WINDOW_HEIGHT);
+		Pixmap white = new Pixmap(1, 1, Pixmap.Format.RGB888);
+		white.setColor(Color.WHITE);
+		white.fill();
+		this.pixel = ResourceManager.acquire(this, new Texture(white));
+		white.dispose();
+	}
+
+	@Override
+	public void update(float delta) {
+		time += delta;
+		boolean done = loader.update(LOAD_BUDGET_NANOS);
+		shownProgress = Math.min(loader.getProgress(), shownProgress + (loader.getProgress() - shownProgress)
+				* Math.min(1, BAR_CATCH_UP * delta) + 0.001F);
+		if (done) {
+			getGame().finishStartup();
+		}
+	}
+
+	@Override
+	public void render() {
+		clearScreen();
+
+		float x = (GameMain.GAME_WINDOW_WIDTH - BAR_WIDTH) / 2;
+		float y = (GameMain.GAME_WINDOW_HEIGHT - BAR_HEIGHT) / 2;
+		float filled = BAR_WIDTH * shownProgress;
+		spriteBatch.setProjectionMatrix(camera.combined);
+		spriteBatch.begin();
+		spriteBatch.setColor(BAR_BACK);
+		spriteBatch.draw(pixel, x, y, BAR_WIDTH, BAR_HEIGHT);
+		spriteBatch.setColor(BAR_FILL);
+		spriteBatch.draw(pixel, x, y, filled, BAR_HEIGHT);
+		// highlight sweeping along the filled part, so it's clearly still going even when progress stalls
+		float shineX = ((time * SHINE_SPEED) % 1) * (filled + SHINE_WIDTH) - SHINE_WIDTH;
+		float shineStart = Math.max(0, shineX);
+		float shineEnd = Math.min(filled, shineX + SHINE_WIDTH);
+		if (shineEnd > shineStart) {
+			spriteBatch.setColor(BAR_SHINE);
+			spriteBatch.draw(pixel, x + shineStart, y, shineEnd - shineStart, BAR_HEIGHT);
+		}
+		spriteBatch.setColor(Color.WHITE);
+		spriteBatch.end();
+
+		if (!firstFrameDone) {
+			firstFrameDone = true;
+			getGame().reportStartupTime("first frame");
+		}
+	}
+
+	/**
+	 * Shown straight away, without fading in.
+	 */
+	@Override
+	public void show() {
+	}
+
+	@Override
+	public void dispose() {
+		ResourceManager.release(this);
+	}
+}
@@ -1,12 +1,17 @@
 package com.arctite.dontfreeze;
 
-import com.arctite.dontfreeze.entities.LiveEntity;
+import com.arctite.dontfreeze.entities.AnimationClock;
+import com.arctite.dontfreeze.entities.DepthOrder;
 import com.arctite.dontfreeze.ui.SkinManager;
+import com.arctite.dontfreeze.util.AssetFiles;
 import com.arctite.dontfreeze.util.ResourceInfo;
+import com.arctite.dontfreeze.util.ResourceManager;
 import com.arctite.dontfreeze.util.SaveManager;
 import com.arctite.dontfreeze.util.SoundManager;
+import com.arctite.dontfreeze.util.StartupLoader;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.*;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
@@ -64,8 +69,10 @@ public class MenuScreen extends AbstractScreen {
 	private float logoY;
 
 	/** Have some snow babies jumping around */
-	private ArrayList<Monster> decorations;
+	private DepthOrder<Monster> decorations;
 
+	/** Window-sized camera, since worlds built while the menu is up change the sprite batch's projection */
+	private OrthographicCamera camera;
 	/** The Scene2D Stage for our menu UI */
 	private Stage stage;
 	/** Whether or not this menu is in the display credits state */
@@ -75,7 +82,25 @@ public class MenuScreen extends AbstractScreen {
 	/** Credits label */
 	private Label creditsLabel;
 
-	public MenuScreen(GameMain game, SpriteBatch spriteBatch) {
+	/**
+	 * Queues the menu's textures and atlases to be loaded at startup.
+	 *
+	 * @param loader the startup loader
+	 */
+	public static void preload(StartupLoader loader) {
+		loader.loadAtlas(LOGO_FIRE_PATH);
+		loader.loadTexture(LOGO_MAIN_PATH);
+		loader.loadTexture(MENU_BACKGROUND);
+	}
+
+	/**
+	 * Creates the menu.
+	 *
+	 * @param game the Game object that this screen belongs to
+	 * @param spriteBatch the SpriteBatch that this game is using
+	 * @param loader loader that the menu's assets were preloaded by, or null to load them now
+	 */
+	public MenuScreen(GameMain game, SpriteBatch spriteBatch, StartupLoader loader) {
 		super(game, spriteBatch);
 
 		// window dimensions
@@ -83,7 +108,11 @@ public class MenuScreen extends AbstractScreen {
 		int winHeight = Gdx.graphics.getHeight();
 
 		// load logo fire
-		TextureAtlas atlas = new TextureAtlas(Gdx.files.internal(LOGO_FIRE_PATH));
+		TextureAtlas atlas = (loader == null) ? null : loader.take(LOGO_FIRE_PATH, TextureAtlas.class);
+		if (atlas == null) {
+			atlas = new TextureAtlas(AssetFiles.internal(LOGO_FIRE_PATH));
+		}
+		ResourceManager.acquire(this, atlas);
 		Array<TextureRegion> regions = new Array<TextureRegion>();
 		for (TextureAtlas.AtlasRegion region : atlas.getRegions()) {
 			regions.add(region);
@@ -91,17 +120,19 @@ public class MenuScreen extends AbstractScreen {
 		this.logoFire = new Animation(LOGO_FRAME_RATE, regions);
 		logoFire.setPlayMode(Animation.PlayMode.LOOP);
 		// load logo main
-		this.logoMain = new Sprite(new Texture(Gdx.files.internal(LOGO_MAIN_PATH)));
+		this.logoMain = new Sprite(getTexture(loader, LOGO_MAIN_PATH));
 		// load background
-		this.background = new Sprite(new Texture(Gdx.files.internal(MENU_BACKGROUND)));
+		this.background = new Sprite(getTexture(loader, MENU_BACKGROUND));
 		// work out logo render position
 		this.logoX = (winWidth / 2) - (logoMain.getWidth() / 2);
 		this.logoY = (winHeight / 2) + 50;
 		logoMain.setPosition(logoX, logoY);
 		// for logoFire, position is given to spriteBatch when drawing
+		this.camera = new OrthographicCamera();
+		camera.setToOrtho(false, GameMain.GAME_WINDOW_WIDTH, GameMain.GAME_WINDOW_HEIGHT);
 
 		// create the stage
-		this.stage = new Stage();
+		this.stage = ResourceManager.acquire(this, new Stage());
 
 		// get the skin
 		Skin skin = SkinManager.getSkin(SkinManager.MENU_BUTTON_SKIN);
@@ -150,6 +181,7 @@ public class MenuScreen extends AbstractScreen {
 			@Override
 			public void clicked(InputEvent event, float x, float y) {
 				SoundManager.playClick();
+				getGame().cancelSpeculation();
 				// save settings
 				SaveManager.getSettings().setDataValue(SaveManager.VOLUME, SoundManager.getVolume());
 				SaveManager.getSettings().saveToJson();
@@ -169,7 +201,7 @@ public class MenuScreen extends AbstractScreen {
 
 		// credits label
 		Label.LabelStyle labelStyle = new Label.LabelStyle();
-		labelStyle.font = new BitmapFont();
+		labelStyle.font = ResourceManager.acquire(this, new BitmapFont());
 		labelStyle.fontColor = Color.BLACK;
 		this.creditsLabel = new Label(CREDITS_TEXT, labelStyle);
 		creditsLabel.setPosition(winWidth / 2 - 70, winHeight / 2 - 80);
@@ -177,7 +209,7 @@ public class MenuScreen extends AbstractScreen {
 		stage.addActor(creditsLabel);
 
 		// initialise decorations
-		this.decorations = new ArrayList<Monster>();
+		this.decorations = new DepthOrder<Monster>();
 		Random random = new Random();
 		ResourceInfo info = ResourceInfo.SNOW_BABY;
 		for (int i = 0; i < NUM_DECORATIONS; i++) {
@@ -188,12 +220,29 @@ public class MenuScreen extends AbstractScreen {
 		}
 	}
 
+	/**
+	 * Gets a texture for this menu, preloaded or loaded now.
+	 */
+	private Texture getTexture(StartupLoader loader, String path) {
+		Texture texture = (loader == null) ? null : loader.take(path, Texture.class);
+		if (texture == null) {
+			texture = new Texture(AssetFiles.internal(path));
+		}
+		return ResourceManager.acquire(this, texture);
+	}
+
 	/**
 	 * Flips this menu's state into and out of credit mode and does the associated enabling/disabling of relevant
 	 * menu actors accordingly.
 	 */
 	private void flipCreditsMode() {
 		creditsMode = !creditsMode;
+		// the player isn't about to play while reading the credits
+		if (creditsMode) {
+			getGame().cancelSpeculation();
+		} else {
+			getGame().startSpeculation();
+		}
 		for (String s : MAIN_BUTTON_NAMES) {
 			buttons.get(s).setVisible(!creditsMode);
 		}
@@ -209,9 +258,10 @@ public class MenuScreen extends AbstractScreen {
 	public void update(float delta) {
 		// update logo fire
 		logoFireStateTime += delta;
-		// update decoration monsters
-		for (Monster dec : decorations) {
-			dec.updateAsDecoration(delta, DECORATION_Y_BOUND);
+		// advance shared idle animation clocks, then update decoration monsters
+		AnimationClock.update(delta);
+		for (int i = 0; i < decorations.size(); i++) {
+			decorations.get(i).updateAsDecoration(delta, DECORATION_Y_BOUND);
 		}
 
 		// check toggle sound
@@ -221,6 +271,10 @@ public class MenuScreen extends AbstractScreen {
 		if (!isTransitioning()) {
 			// update UI
 			stage.act(delta);
+			// get the world the player is most likely going into ready, while they decide
+			if (!creditsMode) {
+				getGame().speculate();
+			}
 		}
 	}
 
@@ -229,26 +283,15 @@ public class MenuScreen extends AbstractScreen {
 		// prepare for new frame
 		clearScreen();
 
+		spriteBatch.setProjectionMatrix(camera.combined);
 		spriteBatch.begin();
 		// draw background
 		background.draw(spriteBatch);
 		// sort monsters
-		Collections.sort(decorations, new Comparator<LiveEntity>() {
-			@Override
-			public int compare(LiveEntity e1, LiveEntity e2) {
-				float y1 = e1.getY();
-				float y2 = e2.getY();
-				if (y1 < y2) {
-					return 1;
-				} else if (y1 > y2) {
-					return -1;
-				}
-				return 0; // equal
-			}
-		});
+		decorations.sort();
 		// draw decoration monsters
-		for (Monster dec : decorations) {
-			dec.render(spriteBatch);
+		for (int i = 0; i < decorations.size(); i++) {
+			decorations.get(i).render(spriteBatch);
 		}
 		// render the logo
 		logoMain.draw(spriteBatch);
@@ -268,5 +311,14 @@ public class MenuScreen extends AbstractScreen {
 		// check if a save file exists and enable/disable the load game button accordingly
 		boolean saveExists = SaveManager.saveFileExists();
 		buttons.get(LOAD_GAME).setVisible(saveExists);
+
+		if (!creditsMode) {
+			getGame().startSpeculation();
+		}
+	}
+
+	@Override
+	public void dispose() {
+		ResourceManager.release(this);
 	}
 }
@@ -11,6 +11,7 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.maps.*;
 import com.badlogic.gdx.maps.objects.PolygonMapObject;
@@ -19,6 +20,7 @@ import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -62,6 +64,31 @@ public class WorldScreen extends AbstractScreen {
 	/** To do with time stepping and frame handling */
 	private static final float DELTA_STEP = 1 / 120F;
 
+	/** View culling - margin around the camera view, since some animation frames are larger than entity bounds */
+	private static final int CULL_MARGIN = 64;
+	/** Whether to build each chunk's sprite layer into a SpriteCache, rather than re-batching its tiles every frame */
+	private static final boolean CACHE_SPRITE_LAYER = true;
+	/** Whether to pre-composite each chunk's background into frame buffers, and whether to also keep a low detail copy
+	 * of it for drawing during screen transitions */
+	private static final boolean CACHE_BACKGROUND = true;
+	private static final boolean LOW_DETAIL_TRANSITIONS = true;
+	/** Transition tint alpha at and above which the low detail background is drawn */
+	private static final float LOW_DETAIL_ALPHA = 0.5F;
+	/** Cell size of the obstacle spatial grids */
+	private static final int GRID_CELL_SIZE = 160;
+	/** Events found around the player are triggered in the order they're defined in the map */
+	private static final Comparator<Event> EVENT_ORDER = new Comparator<Event>() {
+		@Override
+		public int compare(Event e1, Event e2) {
+			return e1.getId() - e2.getId();
+		}
+	};
+	/** Idle monsters further than this from the player are frozen rather than updated at a reduced rate */
+	private static final float FREEZE_DISTANCE = 1000;
+	/** When streaming chunks, how far past a border the player's centre must be before the world changes chunks, so
+	 * that walking back and forth along a border doesn't keep changing chunks */
+	public static final int STREAM_MARGIN = 32;
+
 	/** Map (TileD) related constants */
 	private static final String DIRECTORY = "assets/maps/";
 	private static final String UNDERSCORE = "_";
@@ -71,19 +98,20 @@ public class WorldScreen extends AbstractScreen {
 	private static final String TILED_PROP_Y = "y";
 	private static final String TILED_PROP_WIDTH = "width";
 	private static final String TILED_PROP_HEIGHT = "height";
-	private static final String TILED_PROP_TYPE = "type"; // id of entities, and type of events
+	private static final String TILED_PROP_TYPE = "type"; // id of entities
 	private static final String TILED_PROP_DEFAULT = "default"; // default status of monsters - notSpawned
-	private static final String TILED_PROP_EVENT_REQ = "req";
 	/** Monster default spawn status (property name is default in tiled) */
 	private static final String DEFAULT_NOT_SPAWNED = "notSpawned";
-	/** Event repeatable */
-	private static final String TILED_PROP_REPEAT = "repeat";
 	/** MapLoader that loads Tiled maps */
-	private static final TmxMapLoader MAP_LOADER = new TmxMapLoader();
+	private static final TmxMapLoader MAP_LOADER = new TmxMapLoader(AssetFiles.RESOLVER);
 	/** Map dimensions */
 	private static final String TILED_PROP_MAP_WIDTH = "width";
 	private static final String TILED_PROP_MAP_HEIGHT = "height";
 
+	/** Map of the chunk the game was last saved in, loaded at startup, until a world takes it (or doesn't need it) */
+	private static TiledMap preloadedMap;
+	private static String preloadedMapFile;
+
 	/** Button texts */
 	private static final String END_GAME = "Continue";
 	private static final String RESUME_GAME = "Resume Game";
@@ -92,6 +120,9 @@ public class WorldScreen extends AbstractScreen {
 	/** Debugging settings/tools */
 	private boolean debugMode;
 	private ShapeRenderer debugRenderer;
+	/** GL profiler counts from the last complete frame, only counted in debug mode */
+	private int lastDrawCalls;
+	private int lastTextureBindings;
 
 	/** Input handling */
 	private InputMultiplexer inputMultiplexer; // since both WorldInputHandler and Stage will need inputs on this screen
@@ -107,16 +138,40 @@ public class WorldScreen extends AbstractScreen {
 	private TextButton saveAndExitButton;
 	/** Conversation box label */
 	private ConversationBox convoBox;
+	/** Owner of the ui above, which streamed worlds hand on to the next chunk's world (see takeOver()) */
+	private SharedUi ui;
 
 	/** Tiled Map stuff */
 	private TiledMap tiledMap;
 	private int chunkX;
 	private int chunkY;
 	private HorizontalMapRenderer mapRenderer;
+	private BackgroundCache backgroundCache; // null if not caching
 	private final List<Rectangle> obstacleRects;
 	private final List<RectangleBoundedPolygon> obstaclePolys;
 	private final List<Rectangle> allRects; // unmodifiable
 	private final List<RectangleBoundedPolygon> allPolys; // unmodifiable
+	// backing lists of the unmodifiable lists above, added to as neighbouring chunks stream in
+	private final List<Rectangle> obstacleRectList;
+	private final List<RectangleBoundedPolygon> obstaclePolyList;
+	private final List<Rectangle> allRectList;
+	private final List<RectangleBoundedPolygon> allPolyList;
+	private SpatialGrid<Rectangle> rectGrid; // spatial index of allRects
+	private SpatialGrid<RectangleBoundedPolygon> polyGrid; // spatial index of allPolys
+	private ArrayList<Rectangle> visibleRects; // reused for grid queries
+	private ArrayList<RectangleBoundedPolygon> visiblePolys;
+	/** Chunk streaming, null unless the world is being streamed (see ChunkStreamer) */
+	private ChunkStreamer streamer;
+	private boolean[] attachedNeighbours; // whether each neighbour's shapes have been added, by neighbourIndex()
+	private ArrayList<ChunkStreamer.Chunk> visibleNeighbours; // neighbours in view this frame
+	private Matrix4 neighbourMatrix; // reused for drawing neighbours at their offset
+	private Direction streamDirection; // direction to change chunks in once this frame is done, or null
+	private boolean fadeIn; // false when entered seamlessly from a streamed neighbour
+	private boolean neighbour; // built as a neighbour of the current world, without a ui, until taken over
+	// offset of the player from the chunk they're in to this one, while this is a neighbour (see prepareAsNeighbour())
+	private float playerOffsetX;
+	private float playerOffsetY;
+	private Rectangle localBounds; // reused for the player's bounds in this world's coordinates (see toLocal())
 
 	/** Screen dimensions */
 	private int winWidth;
@@ -128,6 +183,8 @@ public class WorldScreen extends AbstractScreen {
 	private OrthographicCamera camera;
 	private Vector3 cameraPos;
 	private OrthographicCamera fixedCamera;
+	/** Camera view plus CULL_MARGIN on every side, anything outside this is not drawn */
+	private Rectangle viewBounds;
 	/** Time stepping accumulator */
 	private float deltaAccumulator;
 
@@ -136,48 +193,289 @@ public class WorldScreen extends AbstractScreen {
 
 	/** Player and other entities in this World */
 	private Player player;
-	private HashMap<String, String> eventProps; // event-set properties (with set-type events)
+	private EventProperties eventProps; // event-set properties (with set-type events)
 	private boolean playerExpireComplete;
 	// all monster/animated entity add/remove methods must be done on both orderedEntities and their own collection
-	private ArrayList<Entity> orderedEntities; // (sorted by y-coord) list of all active monsters, player, animated
-	private Comparator<Entity> orderedEntitiesComp;
-	private HashMap<String, Monster> monsters; // hashmap of <name, monsterobj>
-	private HashMap<String, Monster> spawnableMonsters; // monsters that have default=notSpawned
-	private HashMap<String, Collectable> collectables;
-	private HashMap<String, Collectable> spawnableCollectables; // collectables that have default=notSpawned
+	private DepthOrder<Entity> orderedEntities; // (sorted by y-coord) list of all active monsters, player, animated
+	private ArrayList<Entity> removedEntities; // pending removals from orderedEntities, purged in one pass per step
+	// idle collectables and animated obstacles animate off the shared AnimationClock, only these need stepping
+	private ArrayList<Collectable> spawningCollectables;
+	private ArrayList<AnimatedObstacle> animatingObstacles;
+	private EntityStore<Monster> monsters; // active monsters by unique name
+	private EntityStore<Collectable> collectables;
+	// monsters and collectables are only created once needed: until then, just their descriptors are kept, by name
+	private LinkedHashMap<String, SpawnDescriptor> unplacedMonsters; // spawned by default, placed by loadValues()
+	private LinkedHashMap<String, SpawnDescriptor> spawnableMonsters; // monsters that have default=notSpawned
+	private LinkedHashMap<String, SpawnDescriptor> unplacedCollectables;
+	private LinkedHashMap<String, SpawnDescriptor> spawnableCollectables; // collectables that have default=notSpawned
 	private ArrayList<Projectile> projectiles;
 	private ArrayList<Event> events;
-	private HashMap<String, AnimatedObstacle> animatedObstacles;
+	private SpatialGrid<Event> eventGrid; // spatial index of the events' bounds
+	private ArrayList<Event> nearbyEvents; // events overlapping the player, reused each check
+	private ArrayList<EventAction> queuedActions; // actions of events triggered this step, run at the end of it
+	/** Worlds whose entities are drawn this frame (this one, then streamed neighbours in view), see render() */
+	private WorldScreen[] entitySources;
+	private float[] sourceOffsetX;
+	private float[] sourceOffsetY;
+	private int[] sourceNext; // index of the next entity to draw, in each source's orderedEntities
+	private int sourceCount;
+	/** Player position when events were last checked, and whether they need checking again regardless */
+	private float eventCheckX;
+	private float eventCheckY;
+	private boolean eventsDirty;
+	private EntityStore<AnimatedObstacle> animatedObstacles;
+
+	/** Stages of construction, done in this order by build() */
+	private static enum BuildStage {
+
+		UI,
+		MAP,
+		OBSTACLES,
+		GROUNDLESS,
+		MONSTERS,
+		COLLECTABLES,
+		ANIMATED,
+		EVENTS,
+		DONE,
+		;
+	}
+
+	/**
+	 * Owns the ui resources. Streamed worlds share the one ui, which always acts on the world it was last handed to,
+	 * and is released along with that world.
+	 */
+	private static class SharedUi {
+
+		private WorldScreen world;
+
+		private SharedUi(WorldScreen world) {
+			this.world = world;
+		}
+	}
+
+	/** Incremental construction, see build() */
+	private BuildStage buildStage;
+	private MapObjects buildObjects; // map objects of the current stage
+	private int buildIndex; // next object of buildObjects to process
+	private WorldInputHandler worldInputHandler;
+
+	/**
+	 * Creates a new WorldScreen for the given chunk. Only the cheap fields are set up here - the rest of the world
+	 * (ui, map, collision shapes, entities and events) is constructed by build(), which can be spread over several
+	 * frames. Once built, the player must be attached with attachPlayer() before the world is used.
+	 *
+	 * @param game the Game object that this screen belongs to
+	 * @param worldInputHandler the WorldInputHandler which remains consistent throughout the entire game application
+	 * @param spriteBatch the SpriteBatch that this game is using
+	 * @param chunkX x coordinate of the chunk
+	 * @param chunkY y coordinate of the chunk
+	 */
+	public WorldScreen(GameMain game, WorldInputHandler worldInputHandler, SpriteBatch spriteBatch, int chunkX,
+					   int chunkY) {
+		this(game, worldInputHandler, spriteBatch, chunkX, chunkY, false);
+	}
 
 	/**
-	 * Creates a new WorldScreen. Initialises all fields, initialises and sets an InputHandler.
-	 * Loads Tiled map data and initialises cameras.
+	 * Creates a new WorldScreen for the given chunk, optionally as a streamed neighbour of the current world. A
+	 * neighbour is built without a ui, from the chunk the streamer has already loaded, so that its entities can be drawn
+	 * across the border and it can be taken over with takeOver() once the player walks into it.
 	 *
 	 * @param game the Game object that this screen belongs to
 	 * @param worldInputHandler the WorldInputHandler which remains consistent throughout the entire game application
-	 * @param p the Player object
 	 * @param spriteBatch the SpriteBatch that this game is using
+	 * @param chunkX x coordinate of the chunk
+	 * @param chunkY y coordinate of the chunk
+	 * @param neighbour whether this is a streamed neighbour of the current world
 	 */
-	public WorldScreen(GameMain game, WorldInputHandler worldInputHandler, Player p, SpriteBatch spriteBatch) {
+	public WorldScreen(GameMain game, WorldInputHandler worldInputHandler, SpriteBatch spriteBatch, int chunkX,
+					   int chunkY, boolean neighbour) {
 		super(game, spriteBatch);
 
 		// screen dimensions
 		this.winWidth = GameMain.GAME_WINDOW_WIDTH;
 		this.winHeight = GameMain.GAME_WINDOW_HEIGHT;
+		this.worldInputHandler = worldInputHandler;
+		this.chunkX = chunkX;
+		this.chunkY = chunkY;
+		this.streamer = game.getChunkStreamer();
+		this.fadeIn = true;
+		this.neighbour = neighbour;
+		if (neighbour && streamer == null) {
+			throw new IllegalStateException("only streamed worlds have neighbours");
+		}
+
+		// not paused
+		this.paused = false;
+		// initialise event property settings hashmap
+		this.eventProps = new EventProperties();
+
+		// ordered entities list (player + monsters)
+		this.orderedEntities = new DepthOrder<Entity>();
+		this.removedEntities = new ArrayList<Entity>();
+		this.spawningCollectables = new ArrayList<Collectable>();
+		this.animatingObstacles = new ArrayList<AnimatedObstacle>();
+
+		// collision shape lists, unmodifiable to everything but this world
+		this.obstacleRectList = new ArrayList<Rectangle>();
+		this.obstaclePolyList = new ArrayList<RectangleBoundedPolygon>();
+		this.allRectList = new ArrayList<Rectangle>();
+		this.allPolyList = new ArrayList<RectangleBoundedPolygon>();
+		this.obstacleRects = Collections.unmodifiableList(obstacleRectList);
+		this.obstaclePolys = Collections.unmodifiableList(obstaclePolyList);
+		this.allRects = Collections.unmodifiableList(allRectList);
+		this.allPolys = Collections.unmodifiableList(allPolyList);
+		this.visibleRects = new ArrayList<Rectangle>();
+		this.visiblePolys = new ArrayList<RectangleBoundedPolygon>();
+		this.viewBounds = new Rectangle();
+		this.localBounds = new Rectangle();
+
+		// entity collections, filled in as the map's layers are built
+		this.monsters = new EntityStore<Monster>();
+		this.collectables = new EntityStore<Collectable>();
+		this.unplacedMonsters = new LinkedHashMap<String, SpawnDescriptor>();
+		this.spawnableMonsters = new LinkedHashMap<String, SpawnDescriptor>();
+		this.unplacedCollectables = new LinkedHashMap<String, SpawnDescriptor>();
+		this.spawnableCollectables = new LinkedHashMap<String, SpawnDescriptor>();
+		this.projectiles = new ArrayList<Projectile>();
+		this.animatedObstacles = new EntityStore<AnimatedObstacle>();
+		this.events = new ArrayList<Event>();
+		this.nearbyEvents = new ArrayList<Event>();
+		this.queuedActions = new ArrayList<EventAction>();
+		this.eventsDirty = true;
+		this.entitySources = new WorldScreen[9];
+		this.sourceOffsetX = new float[9];
+		this.sourceOffsetY = new float[9];
+		this.sourceNext = new int[9];
+
+		// neighbours get their ui from the world they take over
+		this.buildStage = neighbour ? BuildStage.MAP : BuildStage.UI;
+	}
+
+	/**
+	 * Continues constructing this world, one stage or map object at a time, until it is done or the given time budget
+	 * has been used up. Each call does at least one piece of work, so that construction always progresses.
+	 *
+	 * Must be called on the GL thread, while the sprite batch is not drawing.
+	 *
+	 * @param budgetNanos time in nanoseconds that may be spent in this call
+	 * @return whether construction is complete
+	 */
+	public boolean build(long budgetNanos) {
+		long start = System.nanoTime();
+		while (buildStage != BuildStage.DONE) {
+			buildStep();
+			if (System.nanoTime() - start >= budgetNanos) {
+				break;
+			}
+		}
+		return buildStage == BuildStage.DONE;
+	}
+
+	/**
+	 * Constructs whatever is left of this world in one go.
+	 */
+	public void finishBuilding() {
+		build(Long.MAX_VALUE);
+	}
+
+	public boolean isBuilt() {
+		return buildStage == BuildStage.DONE;
+	}
+
+	/**
+	 * Does the next piece of construction: a whole stage for the ui and the map, or a single map object for the
+	 * layers, since those are where most of the time goes (polygon decomposition, entity and animation loading).
+	 */
+	private void buildStep() {
+		switch (buildStage) {
+			case UI:
+				buildUI();
+				nextStage(BuildStage.MAP, null);
+				break;
+			case MAP:
+				buildMap();
+				nextStage(BuildStage.OBSTACLES, tiledMap.getLayers().get(OBSTACLES_LAYER));
+				break;
+			case OBSTACLES:
+				if (buildIndex < buildObjects.getCount()) {
+					addShape(buildObjects.get(buildIndex++), 0, 0, true); // load in obstacles first
+				} else {
+					nextStage(BuildStage.GROUNDLESS, tiledMap.getLayers().get(GROUNDLESS_LAYER));
+				}
+				break;
+			case GROUNDLESS:
+				if (buildIndex < buildObjects.getCount()) {
+					addShape(buildObjects.get(buildIndex++), 0, 0, false);
+				} else {
+					if (streamer != null) { // add the shapes of any neighbouring chunks that have already loaded
+						attachNeighbours();
+					}
+					nextStage(BuildStage.MONSTERS, tiledMap.getLayers().get(MONSTERS_LAYER));
+				}
+				break;
+			case MONSTERS:
+				if (buildIndex < buildObjects.getCount()) {
+					addMonster(buildObjects.get(buildIndex++));
+				} else {
+					nextStage(BuildStage.COLLECTABLES, tiledMap.getLayers().get(COLLECTABLES_LAYER));
+				}
+				break;
+			case COLLECTABLES:
+				if (buildIndex < buildObjects.getCount()) {
+					addCollectable(buildObjects.get(buildIndex++));
+				} else {
+					// animated obstacle layer is optional
+					nextStage(BuildStage.ANIMATED, tiledMap.getLayers().get(ANIMATED_OBSTACLES_LAYER));
+				}
+				break;
+			case ANIMATED:
+				if (buildObjects != null && buildIndex < buildObjects.getCount()) {
+					addAnimatedObstacle(buildObjects.get(buildIndex++));
+				} else {
+					nextStage(BuildStage.EVENTS, tiledMap.getLayers().get(EVENTS_LAYER));
+				}
+				break;
+			case EVENTS:
+				if (buildIndex < buildObjects.getCount()) {
+					addEvent(buildObjects.get(buildIndex++));
+				} else {
+					nextStage(BuildStage.DONE, null);
+				}
+				break;
+			case DONE:
+				break;
+		}
+	}
+
+	/**
+	 * Moves construction on to the given stage, which works through the objects of the given layer (if any).
+	 */
+	private void nextStage(BuildStage stage, MapLayer layer) {
+		buildStage = stage;
+		buildObjects = (layer == null) ? null : layer.getObjects();
+		buildIndex = 0;
+	}
+
+	/**
+	 * Creates the fonts, debug renderer, stages and buttons.
+	 */
+	private void buildUI() {
+		// the buttons act on whichever world has the ui
+		final SharedUi ui = new SharedUi(this);
+		this.ui = ui;
 
 		// drawing stuff
-		this.font = new BitmapFont();
+		this.font = ResourceManager.acquire(ui, new BitmapFont());
 		font.setColor(Color.GREEN);
 
 		// debug mode
 		this.debugMode = false;
-		this.debugRenderer = new ShapeRenderer();
+		GLProfiler.disable();
+		this.debugRenderer = ResourceManager.acquire(ui, new ShapeRenderer());
 
-		// not paused
-		this.paused = false;
 		// intialise scene2d and related ui fields
-		this.stage = new Stage();
-		this.worldStage = new Stage();
+		this.stage = ResourceManager.acquire(ui, new Stage());
+		this.worldStage = ResourceManager.acquire(ui, new Stage());
 		Skin menuButtonSkin = SkinManager.getSkin(SkinManager.MENU_BUTTON_SKIN);
 
 		// conversation box style
@@ -194,7 +492,7 @@ public class WorldScreen extends AbstractScreen {
 			@Override
 			public void clicked(InputEvent event, float x, float y) {
 				SoundManager.playClick();
-				setTransitioning(false, GameMain.ChangeType.MENU);
+				ui.world.setTransitioning(false, GameMain.ChangeType.MENU);
 			}
 		});
 		endGameButton.setVisible(false);
@@ -206,7 +504,7 @@ public class WorldScreen extends AbstractScreen {
 			@Override
 			public void clicked(InputEvent event, float x, float y) {
 				SoundManager.playClick();
-				flipPaused();
+				ui.world.flipPaused();
 			}
 		});
 		resumeButton.setVisible(false);
@@ -217,10 +515,7 @@ public class WorldScreen extends AbstractScreen {
 			@Override
 			public void clicked(InputEvent event, float x, float y) {
 				SoundManager.playClick();
-				saveValues(); // save the game and save player too
-				player.save();
-				SaveManager.getSaveManager().saveToJson();
-				setTransitioning(false, GameMain.ChangeType.MENU);
+				ui.world.saveAndExit();
 			}
 		});
 		saveAndExitButton.setVisible(false);
@@ -230,52 +525,42 @@ public class WorldScreen extends AbstractScreen {
 		this.inputMultiplexer = new InputMultiplexer();
 		inputMultiplexer.addProcessor(stage); // stage gets priority for UI
 		inputMultiplexer.addProcessor(worldInputHandler);
+	}
 
-		// will need to flip y coordinate (flipHeight - y) because tiled coordinates are y-down
-		// player spawnpoint
-		if (p == null) {
-			SaveManager sets = SaveManager.getSettings();
-			int newGamePlayerX = sets.getDataValue(SaveManager.NEW_GAME_PLAYER_X, Integer.class);
-			int newGamePlayerY = sets.getDataValue(NEW_GAME_PLAYER_Y, Integer.class);
-			int newGameChunkX = sets.getDataValue(NEW_GAME_CHUNK_X, Integer.class);
-			int newGameChunkY = sets.getDataValue(NEW_GAME_CHUNK_Y, Integer.class);
-			this.player = new Player(this, worldInputHandler, newGamePlayerX, newGamePlayerY);
-			player.setChunk(newGameChunkX, newGameChunkY);
+	/**
+	 * Loads the Tiled map (or gets it from the streamer), and sets up its renderers, the cameras and spatial grids.
+	 */
+	private void buildMap() {
+		if (streamer != null) {
+			// the streamer owns the map and its renderers, and has probably loaded it already. neighbours are already
+			// in the window, which mustn't move until the player walks into them (see takeOver())
+			if (!neighbour) {
+				streamer.recentre(chunkX, chunkY);
+			}
+			ChunkStreamer.Chunk chunk = streamer.getChunk(chunkX, chunkY);
+			this.tiledMap = chunk.getMap();
+			this.mapRenderer = chunk.getRenderer();
+			this.backgroundCache = chunk.getBackground();
 		} else {
-			this.player = p;
-			player.setWorld(this, worldInputHandler);
-		}
-		// add player health bar to the stage
-		stage.addActor(player.getHealthBar());
-		// initialise event property settings hashmap
-		this.eventProps = new HashMap<String, String>();
-
-		// ordered entities list (player + monsters)
-		this.orderedEntities = new ArrayList<Entity>();
-		this.orderedEntitiesComp = new Comparator<Entity>() {
-			@Override
-			public int compare(Entity e1, Entity e2) {
-				float y1 = e1.getY();
-				float y2 = e2.getY();
-				if (y1 < y2) {
-					return 1;
-				} else if (y1 > y2) {
-					return -1;
-				}
-				return 0; // equal
+			// otherwise this world's chunk is its own, and goes with it
+			String mapFile = getMapFile(chunkX, chunkY);
+			TiledMap map = takePreloadedMap(mapFile);
+			if (map == null) {
+				map = MAP_LOADER.load(mapFile);
 			}
-		};
-		orderedEntities.add(player); // add player to the sorted entities list
-
-		// load Tiled stuffs
-		this.chunkX = player.getChunkX();
-		this.chunkY = player.getChunkY();
-		this.tiledMap = MAP_LOADER.load(DIRECTORY + chunkX + UNDERSCORE + chunkY + EXT);
-		this.mapRenderer = new HorizontalMapRenderer(tiledMap, spriteBatch);
+			this.tiledMap = ResourceManager.acquire(this, map);
+			this.mapRenderer = ResourceManager.acquire(this,
+					new HorizontalMapRenderer(tiledMap, spriteBatch, CACHE_SPRITE_LAYER));
+		}
 		MapProperties mapProps = tiledMap.getProperties();
 		// load in map dimensions
 		this.width = mapProps.get(TILED_PROP_MAP_WIDTH, Integer.class);
 		this.height = mapProps.get(TILED_PROP_MAP_HEIGHT, Integer.class);
+		// composite the static background layers once
+		if (CACHE_BACKGROUND && streamer == null) {
+			this.backgroundCache = ResourceManager.acquire(this,
+					new BackgroundCache(mapRenderer, spriteBatch, width, height, LOW_DETAIL_TRANSITIONS));
+		}
 		this.camera = new OrthographicCamera();
 		camera.setToOrtho(false);
 		this.cameraPos = camera.position;
@@ -285,164 +570,324 @@ public class WorldScreen extends AbstractScreen {
 		camera.update();
 		this.fixedCamera = new OrthographicCamera();
 		fixedCamera.setToOrtho(false);
-		// process collision layer polygons and decompose concave into convex, and put into arraylist fields
-		MapLayers layers = tiledMap.getLayers();
-		MapObjects objs = layers.get(OBSTACLES_LAYER).getObjects(); // load in obstacles first
-		List<Rectangle> modiRects = new ArrayList<Rectangle>();
-		List<RectangleBoundedPolygon> modiPolys = new ArrayList<RectangleBoundedPolygon>();
-		Array<RectangleMapObject> rectObjs = objs.getByType(RectangleMapObject.class);
-		Array<PolygonMapObject> polyObjs = objs.getByType(PolygonMapObject.class);
-		for (RectangleMapObject o : rectObjs) {
-			modiRects.add(o.getRectangle());
-		}
-		for (PolygonMapObject o : polyObjs) {
-			modiPolys.add(new RectangleBoundedPolygon(o.getPolygon())); // constructor will take care of splitting concave polygons
-		}
-		// set rect and polygon lists unmodifiable
-		this.obstacleRects = Collections.unmodifiableList(modiRects);
-		this.obstaclePolys = Collections.unmodifiableList(modiPolys);
-		modiRects = new ArrayList<Rectangle>();
-		modiPolys = new ArrayList<RectangleBoundedPolygon>();
-		// copy over obstacle rects/polys
-		for (Rectangle or : obstacleRects) {
-			modiRects.add(or);
-		}
-		for (RectangleBoundedPolygon op : obstaclePolys) {
-			modiPolys.add(op);
-		}
-		objs = layers.get(GROUNDLESS_LAYER).getObjects();
-		// load in groundless rects/polys and combine them with obstacle rects/polys for allRects and allPolys
-		rectObjs = objs.getByType(RectangleMapObject.class);
-		polyObjs = objs.getByType(PolygonMapObject.class);
-		// add cumulatively onto the obstacle shapes for 'all'
-		for (RectangleMapObject o : rectObjs) {
-			modiRects.add(o.getRectangle());
-		}
-		for (PolygonMapObject o : polyObjs) {
-			modiPolys.add(new RectangleBoundedPolygon(o.getPolygon())); // constructor will take care of splitting concave polygons
-		}
-		this.allRects = Collections.unmodifiableList(modiRects);
-		this.allPolys = Collections.unmodifiableList(modiPolys);
-
-		// monsters layer
-		this.monsters = new HashMap<String, Monster>();
-		this.spawnableMonsters = new HashMap<String, Monster>();
-		MapObjects monsterObjects = tiledMap.getLayers().get(MONSTERS_LAYER).getObjects();
-		HashSet<String> names = new HashSet<String>();
-		for (MapObject obj : monsterObjects) {
-			String name = obj.getName();
-			if (names.contains(name)) { // check that all names are unique on this layer
-				throw new RuntimeException("invalid tiled map - duplicated name '" + name + "' on MONSTERS layer");
+		// spatial index of all rects/polys, so that only the ones in view need to be looked at
+		if (streamer != null) { // covers the neighbouring chunks too
+			this.rectGrid = new SpatialGrid<Rectangle>(-width, -height, width * 3, height * 3, GRID_CELL_SIZE);
+			this.polyGrid = new SpatialGrid<RectangleBoundedPolygon>(-width, -height, width * 3, height * 3,
+					GRID_CELL_SIZE);
+			this.attachedNeighbours = new boolean[9];
+			this.visibleNeighbours = new ArrayList<ChunkStreamer.Chunk>();
+			this.neighbourMatrix = new Matrix4();
+		} else {
+			this.rectGrid = new SpatialGrid<Rectangle>(width, height, GRID_CELL_SIZE);
+			this.polyGrid = new SpatialGrid<RectangleBoundedPolygon>(width, height, GRID_CELL_SIZE);
+		}
+		// events are only ever this chunk's
+		this.eventGrid = new SpatialGrid<Event>(width, height, GRID_CELL_SIZE);
+	}
+
+	/**
+	 * Reads a MONSTERS layer object into a descriptor, so the monster can be created once it's needed.
+	 */
+	private void addMonster(MapObject obj) {
+		String name = obj.getName();
+		if (unplacedMonsters.containsKey(name) || spawnableMonsters.containsKey(name)) { // names must be unique on this layer
+			throw new RuntimeException("invalid tiled map - duplicated name '" + name + "' on MONSTERS layer");
+		}
+		float mx = obj.getProperties().get(TILED_PROP_X, Float.class);
+		float my = obj.getProperties().get(TILED_PROP_Y, Float.class);
+		int id = Integer.parseInt(obj.getProperties().get(TILED_PROP_TYPE, String.class));
+		boolean hasDefault = obj.getProperties().containsKey(TILED_PROP_DEFAULT);
+		SpawnDescriptor spawn = new SpawnDescriptor(name, id, mx, my);
+		if (hasDefault) {
+			String defaultValue = obj.getProperties().get(TILED_PROP_DEFAULT, String.class);
+			if (!defaultValue.equals(DEFAULT_NOT_SPAWNED)) {
+				throw new RuntimeException("monster default can only be notSpawned, was " + defaultValue);
 			}
-			names.add(name);
-			float mx = obj.getProperties().get(TILED_PROP_X, Float.class);
-			float my = obj.getProperties().get(TILED_PROP_Y, Float.class);
-			int id = Integer.parseInt(obj.getProperties().get(TILED_PROP_TYPE, String.class));
-			boolean hasDefault = obj.getProperties().containsKey(TILED_PROP_DEFAULT);
-			Monster monster = new Monster(this, id, mx, my);
-			// add monster to world stage because health bars should follow them
+			spawnableMonsters.put(name, spawn); // not spawned by default, so put in spawnable list
+		} else {
+			unplacedMonsters.put(name, spawn);
+		}
+	}
+
+	/**
+	 * Reads a COLLECTABLES layer object into a descriptor, so the collectable can be created once it's needed.
+	 */
+	private void addCollectable(MapObject obj) {
+		String name = obj.getName();
+		if (unplacedCollectables.containsKey(name) || spawnableCollectables.containsKey(name)) {
+			throw new RuntimeException("invalid tiled map - duplicated name '" + name + "' on COLLECTABLES layer");
+		}
+		float cx = obj.getProperties().get(TILED_PROP_X, Float.class);
+		float cy = obj.getProperties().get(TILED_PROP_Y, Float.class);
+		int id = Integer.parseInt(obj.getProperties().get(TILED_PROP_TYPE, String.class));
+		boolean hasDefault = obj.getProperties().containsKey(TILED_PROP_DEFAULT);
+		SpawnDescriptor spawn = new SpawnDescriptor(name, id, cx, cy);
+		if (hasDefault) {
+			String defaultValue = obj.getProperties().get(TILED_PROP_DEFAULT, String.class);
+			if (!defaultValue.equals(DEFAULT_NOT_SPAWNED)) {
+				throw new RuntimeException("collectable default can only be notSpawned, was " + defaultValue);
+			}
+			spawnableCollectables.put(name, spawn);
+		} else {
+			unplacedCollectables.put(name, spawn);
+		}
+	}
+
+	/**
+	 * Creates the monster for the given descriptor and adds it to this world's active monsters.
+	 *
+	 * @return the monster
+	 */
+	private Monster placeMonster(SpawnDescriptor spawn) {
+		Monster monster = new Monster(this, spawn.getId(), spawn.getX(), spawn.getY());
+		// add monster to world stage because health bars should follow them (neighbours get theirs in takeOver())
+		if (worldStage != null) {
 			worldStage.addActor(monster.getHealthBar());
-			if (hasDefault) {
-				String defaultValue = obj.getProperties().get(TILED_PROP_DEFAULT, String.class);
-				if (!defaultValue.equals(DEFAULT_NOT_SPAWNED)) {
-					throw new RuntimeException("monster default can only be notSpawned, was " + defaultValue);
-				}
-				spawnableMonsters.put(name, monster); // not spawned by default, so put in spawnable list
-			} else {
-				monsters.put(name, monster); // add monster to hashmap by key = unique name
-				orderedEntities.add(monster);
+		}
+		monsters.add(spawn.getName(), monster); // add monster to store by key = unique name
+		orderedEntities.add(monster);
+		return monster;
+	}
+
+	/**
+	 * Creates the collectable for the given descriptor and adds it to this world's active collectables.
+	 *
+	 * @return the collectable
+	 */
+	private Collectable placeCollectable(SpawnDescriptor spawn) {
+		Collectable collectable = new Collectable(this, spawn.getId(), spawn.getX(), spawn.getY());
+		collectables.add(spawn.getName(), collectable);
+		orderedEntities.add(collectable);
+		return collectable;
+	}
+
+	/**
+	 * Creates an animated obstacle out of an ANIMATED_OBSTACLES layer object.
+	 */
+	private void addAnimatedObstacle(MapObject obj) {
+		String sid = obj.getProperties().get(TILED_PROP_TYPE, String.class);
+		int id = Integer.parseInt(sid);
+		String name = obj.getName();
+		float x = obj.getProperties().get(TILED_PROP_X, Float.class);
+		float y = obj.getProperties().get(TILED_PROP_Y, Float.class);
+		AnimatedObstacle obstacle = new AnimatedObstacle(id, x, y);
+		animatedObstacles.add(name, obstacle);
+		orderedEntities.add(obstacle);
+	}
+
+	/**
+	 * Creates an event out of an EVENTS layer object, along with its requirements.
+	 */
+	private void addEvent(MapObject obj) {
+		Event event = EventCompiler.compile(obj, eventProps, this);
+		events.add(event);
+		eventGrid.add(event, event.getBounds());
+	}
+
+	/**
+	 * Puts the player into this world, which must have finished building. If the player is null, a new game player is
+	 * created at the spawnpoint from the settings.
+	 *
+	 * @param p the Player object, already set to be in this world's chunk, or null for a new game
+	 */
+	public void attachPlayer(Player p) {
+		if (!isBuilt()) {
+			throw new IllegalStateException("world must be built before the player is attached");
+		}
+		// will need to flip y coordinate (flipHeight - y) because tiled coordinates are y-down
+		// player spawnpoint
+		if (p == null) {
+			SaveManager sets = SaveManager.getSettings();
+			int newGamePlayerX = sets.getDataValue(SaveManager.NEW_GAME_PLAYER_X, Integer.class);
+			int newGamePlayerY = sets.getDataValue(NEW_GAME_PLAYER_Y, Integer.class);
+			this.player = new Player(this, worldInputHandler, newGamePlayerX, newGamePlayerY);
+			player.setChunk(chunkX, chunkY);
+		} else {
+			if (p.getChunkX() != chunkX || p.getChunkY() != chunkY) {
+				throw new IllegalStateException("player is in chunk (" + p.getChunkX() + ", " + p.getChunkY()
+						+ "), not (" + chunkX + ", " + chunkY + ")");
 			}
+			this.player = p;
+			player.setWorld(this, worldInputHandler);
 		}
+		// add player health bar to the stage, unless it's still there from the world the ui was handed on by
+		if (player.getHealthBar().getStage() != stage) {
+			stage.addActor(player.getHealthBar());
+		}
+		orderedEntities.add(player); // add player to the sorted entities list
 		// sort ordered entities list
 		sortOrderedEntities();
 
-		// collectable spawn points
-		this.collectables = new HashMap<String, Collectable>();
-		this.spawnableCollectables = new HashMap<String, Collectable>();
-		MapObjects collectableObjects = tiledMap.getLayers().get(COLLECTABLES_LAYER).getObjects();
-		names.clear(); // prep names set for collectable name checking
-		for (MapObject obj : collectableObjects) {
-			String name = obj.getName();
-			if (names.contains(name)) {
-				throw new RuntimeException("invalid tiled map - duplicated name '" + name + "' on COLLECTABLES layer");
-			}
-			names.add(name);
-			float cx = obj.getProperties().get(TILED_PROP_X, Float.class);
-			float cy = obj.getProperties().get(TILED_PROP_Y, Float.class);
-			int id = Integer.parseInt(obj.getProperties().get(TILED_PROP_TYPE, String.class));
-			boolean hasDefault = obj.getProperties().containsKey(TILED_PROP_DEFAULT);
-			Collectable collectable = new Collectable(this, id, cx, cy);
-			if (hasDefault) {
-				String defaultValue = obj.getProperties().get(TILED_PROP_DEFAULT, String.class);
-				if (!defaultValue.equals(DEFAULT_NOT_SPAWNED)) {
-					throw new RuntimeException("collectable default can only be notSpawned, was " + defaultValue);
-				}
-				spawnableCollectables.put(name, collectable); // add collectable to hashmap by key = unique name
-			} else {
-				collectables.put(name, collectable);
-				orderedEntities.add(collectable);
-			}
+		updateCamera();
+	}
+
+	/**
+	 * Gets the chunk that a new game starts in, from the settings.
+	 *
+	 * @return { chunk x, chunk y }
+	 */
+	public static int[] getNewGameChunk() {
+		SaveManager sets = SaveManager.getSettings();
+		int newGameChunkX = sets.getDataValue(NEW_GAME_CHUNK_X, Integer.class);
+		int newGameChunkY = sets.getDataValue(NEW_GAME_CHUNK_Y, Integer.class);
+		return new int[] { newGameChunkX, newGameChunkY };
+	}
+
+	/**
+	 * Gets the location of the Tiled map file of the given chunk.
+	 *
+	 * @param chunkX x coordinate of the chunk
+	 * @param chunkY y coordinate of the chunk
+	 * @return internal path of the chunk's map file
+	 */
+	public static String getMapFile(int chunkX, int chunkY) {
+		return DIRECTORY + chunkX + UNDERSCORE + chunkY + EXT;
+	}
+
+	/**
+	 * Sets the map that was loaded at startup, for the chunk the game was last saved in.
+	 *
+	 * @param chunkX x coordinate of the chunk
+	 * @param chunkY y coordinate of the chunk
+	 * @param map the loaded map
+	 */
+	static void setPreloadedMap(int chunkX, int chunkY, TiledMap map) {
+		clearPreloadedMap();
+		preloadedMap = map;
+		preloadedMapFile = getMapFile(chunkX, chunkY);
+	}
+
+	/**
+	 * Disposes of the preloaded map, if it hasn't been taken.
+	 */
+	static void clearPreloadedMap() {
+		if (preloadedMap != null) {
+			preloadedMap.dispose();
+			preloadedMap = null;
+			preloadedMapFile = null;
 		}
+	}
 
-		// initialise projectiles
-		this.projectiles = new ArrayList<Projectile>();
+	/**
+	 * Takes the preloaded map if it's the given chunk's. Otherwise it's no longer needed, since the first world built is
+	 * the one the preload was for.
+	 *
+	 * @return the map, or null if the preloaded map was not the given chunk's
+	 */
+	private static TiledMap takePreloadedMap(String mapFile) {
+		if (preloadedMap != null && preloadedMapFile.equals(mapFile)) {
+			TiledMap map = preloadedMap;
+			preloadedMap = null;
+			preloadedMapFile = null;
+			return map;
+		}
+		clearPreloadedMap();
+		return null;
+	}
+
+	/**
+	 * Creates a ChunkStreamer which sets up chunks the same way that non-streamed worlds set up their own chunk.
+	 *
+	 * @param spriteBatch the SpriteBatch that this game is using
+	 * @return new chunk streamer
+	 */
+	static ChunkStreamer newChunkStreamer(SpriteBatch spriteBatch) {
+		return new ChunkStreamer(spriteBatch, CACHE_SPRITE_LAYER, CACHE_BACKGROUND, LOW_DETAIL_TRANSITIONS);
+	}
+
+	/**
+	 * Adds the obstacle and groundless shapes of the given chunk's map to the collision lists and spatial grids.
+	 *
+	 * @param map the chunk's map
+	 * @param offsetX x position of the chunk relative to this world's chunk
+	 * @param offsetY y position of the chunk relative to this world's chunk
+	 */
+	private void addChunkShapes(TiledMap map, float offsetX, float offsetY) {
+		MapLayers layers = map.getLayers();
+		addShapes(layers.get(OBSTACLES_LAYER).getObjects(), offsetX, offsetY, true); // load in obstacles first
+		// groundless shapes are only combined with the obstacles for allRects and allPolys
+		addShapes(layers.get(GROUNDLESS_LAYER).getObjects(), offsetX, offsetY, false);
+	}
+
+	/**
+	 * Adds the rectangles and polygons out of the given map objects to the collision lists and spatial grids, moved by
+	 * the given offset.
+	 */
+	private void addShapes(MapObjects objs, float offsetX, float offsetY, boolean obstacle) {
+		for (MapObject o : objs) {
+			addShape(o, offsetX, offsetY, obstacle);
+		}
+	}
 
-		// load animated obstacle objects layer
-		this.animatedObstacles = new HashMap<String, AnimatedObstacle>();
-		// check if layer is present
-		if (tiledMap.getLayers().get(ANIMATED_OBSTACLES_LAYER) != null) {
-			MapObjects animobs = tiledMap.getLayers().get(ANIMATED_OBSTACLES_LAYER).getObjects();
-			for (MapObject obj : animobs) {
-				String sid = obj.getProperties().get(TILED_PROP_TYPE, String.class);
-				int id = Integer.parseInt(sid);
-				String name = obj.getName();
-				float x = obj.getProperties().get(TILED_PROP_X, Float.class);
-				float y = obj.getProperties().get(TILED_PROP_Y, Float.class);
-				AnimatedObstacle obstacle = new AnimatedObstacle(id, x, y);
-				animatedObstacles.put(name, obstacle);
-				orderedEntities.add(obstacle);
+	/**
+	 * Adds the given map object to the collision lists and spatial grids, moved by the given offset, if it is a
+	 * rectangle or polygon.
+	 */
+	private void addShape(MapObject obj, float offsetX, float offsetY, boolean obstacle) {
+		boolean offset = offsetX != 0 || offsetY != 0;
+		if (obj instanceof RectangleMapObject) {
+			Rectangle rect = ((RectangleMapObject) obj).getRectangle();
+			if (offset) {
+				rect = new Rectangle(rect.x + offsetX, rect.y + offsetY, rect.width, rect.height);
+			}
+			if (obstacle) {
+				obstacleRectList.add(rect);
 			}
+			allRectList.add(rect);
+			rectGrid.add(rect, rect);
+		} else if (obj instanceof PolygonMapObject) {
+			Polygon polygon = ((PolygonMapObject) obj).getPolygon();
+			if (offset) {
+				float[] vertices = polygon.getTransformedVertices().clone();
+				for (int i = 0; i < vertices.length; i += 2) {
+					vertices[i] += offsetX;
+					vertices[i + 1] += offsetY;
+				}
+				polygon = new Polygon(vertices);
+			}
+			// constructor will take care of splitting concave polygons
+			RectangleBoundedPolygon rbp = new RectangleBoundedPolygon(polygon);
+			if (obstacle) {
+				obstaclePolyList.add(rbp);
+			}
+			allPolyList.add(rbp);
+			polyGrid.add(rbp, rbp.getBoundingRectangle());
 		}
+	}
 
-		// load in event objects
-		this.events = new ArrayList<Event>();
-		MapObjects eventObjects = tiledMap.getLayers().get(EVENTS_LAYER).getObjects();
-		for (MapObject obj : eventObjects) {
-			String eventNames = obj.getName();
-			String eventTypes = obj.getProperties().get(TILED_PROP_TYPE, String.class);
-			int eid = obj.getProperties().get(TILED_PROP_ID, Integer.class);
-			float ex = obj.getProperties().get(TILED_PROP_X, Float.class);
-			float ey = obj.getProperties().get(TILED_PROP_Y, Float.class);
-			float ew = obj.getProperties().get(TILED_PROP_WIDTH, Float.class);
-			float eh = obj.getProperties().get(TILED_PROP_HEIGHT, Float.class);
-			String sr = obj.getProperties().get(TILED_PROP_REPEAT, String.class);
-			boolean repeat = Boolean.parseBoolean(sr);
-			Event event = new Event(eid, eventNames, eventTypes, (int) ex, (int) ey, ew, eh, repeat);
-			boolean hasReq = obj.getProperties().containsKey(TILED_PROP_EVENT_REQ);
-			if (hasReq) { // check and set requirements if any
-				String reqsLine = obj.getProperties().get(TILED_PROP_EVENT_REQ, String.class);
-				String[] reqs = reqsLine.split(Event.COMMA);
-				for (String req : reqs) { // add all requirements
-					String[] split;
-					boolean equals;
-					if (req.contains(Event.EQUALS)) {
-						split = req.split(Event.EQUALS);
-						equals = true;
-					} else if (req.contains(Event.DIFFERS)) {
-						split = req.split(Event.DIFFERS);
-						equals = false;
-					} else {
-						throw new RuntimeException("requirement '" + req + "' has no '=' or '<>'");
-					}
-					String name = split[0];
-					String value = split[1];
-					event.addRequirement(equals, name, value);
+	/**
+	 * Gets the index of the neighbouring chunk at the given offset, in attachedNeighbours.
+	 */
+	private static int neighbourIndex(int dx, int dy) {
+		return (dx + 1) * 3 + (dy + 1);
+	}
+
+	/**
+	 * Adds the collision shapes of neighbouring chunks which have finished streaming in since last time, so that
+	 * things collide across borders.
+	 */
+	private void attachNeighbours() {
+		for (int dx = -1; dx <= 1; dx++) {
+			for (int dy = -1; dy <= 1; dy++) {
+				int index = neighbourIndex(dx, dy);
+				if ((dx == 0 && dy == 0) || attachedNeighbours[index]) {
+					continue;
+				}
+				ChunkStreamer.Chunk chunk = streamer.getLoadedChunk(chunkX + dx, chunkY + dy);
+				if (chunk != null) {
+					addChunkShapes(chunk.getMap(), dx * CHUNK_WIDTH, dy * CHUNK_HEIGHT);
+					attachedNeighbours[index] = true;
 				}
 			}
-			events.add(event);
 		}
+	}
 
-		updateCamera();
+	/**
+	 * Checks whether the neighbouring chunk at the given offset has streamed in.
+	 */
+	private boolean hasNeighbour(int dx, int dy) {
+		return streamer != null && attachedNeighbours[neighbourIndex(dx, dy)];
 	}
 
 	/**
@@ -452,100 +897,114 @@ public class WorldScreen extends AbstractScreen {
 		SaveManager saver = SaveManager.getSaveManager();
 		// map number prefix
 		String chunkId = (new String() + chunkX) + chunkY;
-		if (saver.hasDataValue(VISITED_CHUNK + chunkId)) { // otherwise the constructor has loaded defaults for this map
-			ArrayList<String> removeKeys = new ArrayList<String>();
-			// check spawned monsters (no default=notSpawned)
-			for (String mkey : monsters.keySet()) { // key is name
-				Monster monster = monsters.get(mkey);
-				boolean active = saver.hasDataValue(chunkId + MONSTER + mkey + ACTIVE);
-				if (active) {
-					monster.load(chunkId, mkey);
-				} else {
-					removeKeys.add(mkey);
-					// remove from orderedlist also
-					orderedEntities.remove(monster);
+		// bring in whatever happened here while the player was away
+		BackgroundSimulator simulator = getGame().getBackgroundSimulator();
+		if (simulator != null) {
+			simulator.merge(chunkX, chunkY);
+		}
+		if (saver.hasDataValue(VISITED_CHUNK + chunkId)) {
+			// create the monsters spawned by default that are still alive
+			for (SpawnDescriptor spawn : unplacedMonsters.values()) {
+				String mkey = spawn.getName();
+				if (saver.hasDataValue(chunkId + MONSTER + mkey + ACTIVE)) {
+					placeMonster(spawn).load(chunkId, mkey);
 				}
 			}
-			// remove monsters that weren't found in save file
-			for (String mkey : removeKeys) {
-				monsters.remove(mkey);
-			}
 			// check spawnable monsters
-			removeKeys.clear();
-			for (String mkey : spawnableMonsters.keySet()) {
-				Monster monster = spawnableMonsters.get(mkey);
+			Iterator<SpawnDescriptor> it = spawnableMonsters.values().iterator();
+			while (it.hasNext()) {
+				SpawnDescriptor spawn = it.next();
+				String mkey = spawn.getName();
 				boolean active = saver.hasDataValue(chunkId + MONSTER + mkey + ACTIVE);
 				if (active) {
 					boolean notSpawned = saver.getDataValue(chunkId + MONSTER + mkey + DEFAULT_NOT_SPAWNED, Boolean.class);
 					if (!notSpawned) {
-						// this monster has been spawned, load from save file
-						monster.load(chunkId, mkey);
-						// so remove from spawnable and add to monsters
-						removeKeys.add(mkey);
-						monsters.put(mkey, monster);
-						orderedEntities.add(monster); // add to both monsters and orderedEntities
+						// this monster has been spawned, so create it and load it from the save file
+						it.remove();
+						placeMonster(spawn).load(chunkId, mkey);
 					}
 					// else, this monster is still waiting for spawn. leave in spawnable
 				} else {
-					removeKeys.add(mkey); // this monster not active, straight up remove
+					it.remove(); // this monster not active, straight up remove
 				}
 			}
-			// remove spawnable monsters that were either not found in save file, or moved to spawned
-			for (String mkey : removeKeys) {
-				spawnableMonsters.remove(mkey);
-			}
 
-			// sort ordered entities now that monsters have been changed around
-			sortOrderedEntities();
-
-			// check normal collectables
-			removeKeys.clear();
-			for (String ckey : collectables.keySet()) {
-				boolean active = saver.hasDataValue(chunkId + COLLECTABLE + ckey + ACTIVE);
-				if (!active) {
-					removeKeys.add(ckey);
-					orderedEntities.remove(collectables.get(ckey)); // remove from ordered entities also
+			// create the collectables placed by default that haven't been collected
+			for (SpawnDescriptor spawn : unplacedCollectables.values()) {
+				if (saver.hasDataValue(chunkId + COLLECTABLE + spawn.getName() + ACTIVE)) {
+					placeCollectable(spawn);
 				}
 			}
-			// remove collectables that weren't found in save file
-			for (String ckey : removeKeys) {
-				collectables.remove(ckey);
-			}
 			// check spawnable collectables
-			removeKeys.clear();
-			for (String ckey : spawnableCollectables.keySet()) {
+			it = spawnableCollectables.values().iterator();
+			while (it.hasNext()) {
+				SpawnDescriptor spawn = it.next();
+				String ckey = spawn.getName();
 				boolean active = saver.hasDataValue(chunkId + COLLECTABLE + ckey + ACTIVE);
 				if (active) {
 					boolean notSpawned = saver.getDataValue(chunkId + COLLECTABLE + ckey + DEFAULT_NOT_SPAWNED, Boolean.class);
-					if (!notSpawned) { // this has since been spawned, remove from spawnable and add to normal
-						collectables.put(ckey, spawnableCollectables.get(ckey));
-						removeKeys.add(ckey);
+					if (!notSpawned) { // this has since been spawned, remove from spawnable and create it
+						it.remove();
+						placeCollectable(spawn);
 					}
 				} else {
-					removeKeys.add(ckey); // gone, straight up remove
+					it.remove(); // gone, straight up remove
 				}
 			}
+			unplacedMonsters.clear();
+			unplacedCollectables.clear();
+
+			// sort ordered entities now that monsters and collectables have been placed
+			sortOrderedEntities();
 
 			// update event triggered flags
+			eventsDirty = true;
 			for (Event event : events) {
 				boolean triggered = saver.getDataValue(chunkId + EVENT + event.getId() + TRIGGERED, Boolean.class);
 				event.setTriggered(triggered);
 			}
 
 			// load event properties
-			for (String key : saver.getKeysByPrefix(EVENT_PROPERTY_SETTING)) {
-				String propName = key.substring(EVENT_PROPERTY_SETTING.length()); // get rid of the EPS prefix
-				String propValue = saver.getDataValue(key, String.class);
-				eventProps.put(propName, propValue);
-			}
+			eventProps.read(getSavedEventProperties(saver));
+		} else {
+			// first visit: everything spawned by default is there
+			placeDefaults();
+		}
+		if (player != null) { // neighbours are loaded before the player walks into them
+			updateCamera();
 		}
-		updateCamera();
+	}
+
+	/**
+	 * Creates the monsters and collectables that are there by default, if they haven't been already.
+	 */
+	private void placeDefaults() {
+		for (SpawnDescriptor spawn : unplacedMonsters.values()) {
+			placeMonster(spawn);
+		}
+		for (SpawnDescriptor spawn : unplacedCollectables.values()) {
+			placeCollectable(spawn);
+		}
+		unplacedMonsters.clear();
+		unplacedCollectables.clear();
+		sortOrderedEntities();
 	}
 
 	/**
 	 * Saves this game world into the SaveManager (but does not explicitly write to file).
 	 */
 	public void saveValues() {
+		saveChunkValues();
+		// save event properties, keeping any this world doesn't have
+		SaveManager saver = SaveManager.getSaveManager();
+		saver.setDataValue(EVENT_PROPERTIES, eventProps.write(getSavedEventProperties(saver)));
+	}
+
+	/**
+	 * Saves this world's chunk into the SaveManager, without the event properties. Used on its own for streamed
+	 * neighbours, whose event properties aren't kept up to date with the current world's.
+	 */
+	public void saveChunkValues() {
 		String chunkId = (new String() + chunkX) + chunkY;
 		SaveManager saver = SaveManager.getSaveManager();
 		// firstly, remove all previous values associated with this map chunk
@@ -554,8 +1013,10 @@ public class WorldScreen extends AbstractScreen {
 		saver.setDataValue(VISITED_CHUNK + chunkId, true);
 
 		// now write the updated values in
-		for (String mkey : monsters.keySet()) {
-			Monster m = monsters.get(mkey);
+		for (int i = 0; i < monsters.size(); i++) {
+			String mkey = monsters.getName(i);
+			Monster m = monsters.get(i);
+			m.catchUp(allRects, allPolys); // simulate any time skipped by level of detail, so saves are consistent
 			if (m.getHealthBar().getHealth() > 0) { // excludes expiring monsters
 				// firstly: set this monster as active (active means alive, not necessarily spawned)
 				saver.setDataValue(chunkId + MONSTER + mkey + ACTIVE, true);
@@ -565,16 +1026,17 @@ public class WorldScreen extends AbstractScreen {
 				m.save(chunkId, mkey);
 			}
 		}
-		for (String mkey : spawnableMonsters.keySet()) {
-			Monster m = spawnableMonsters.get(mkey);
+		for (SpawnDescriptor spawn : spawnableMonsters.values()) {
+			String mkey = spawn.getName();
 			// firstly: set this monster as active (active means alive, not necessarily spawned)
 			saver.setDataValue(chunkId + MONSTER + mkey + ACTIVE, true);
 			// set default=notSpawned as true
 			saver.setDataValue(chunkId + MONSTER + mkey + DEFAULT_NOT_SPAWNED, true);
-			// then save fields
-			m.save(chunkId, mkey);
+			// then save fields, as they would be for a newly created monster
+			Monster.saveUnspawned(chunkId, spawn);
 		}
-		for (String ckey : collectables.keySet()) {
+		for (int i = 0; i < collectables.size(); i++) {
+			String ckey = collectables.getName(i);
 			saver.setDataValue(chunkId + COLLECTABLE + ckey + ACTIVE, true);
 			saver.setDataValue(chunkId + COLLECTABLE + ckey + DEFAULT_NOT_SPAWNED, false);
 		}
@@ -587,34 +1049,223 @@ public class WorldScreen extends AbstractScreen {
 			// here, active = not triggered
 			saver.setDataValue(chunkId + EVENT + event.getId() + TRIGGERED, event.hasTriggered());
 		}
-		// save event properties
-		for (String key : eventProps.keySet()) {
-			saver.setDataValue(EVENT_PROPERTY_SETTING + key, eventProps.get(key));
+	}
+
+	/**
+	 * Gets the saved event properties, as written by EventProperties. Older saves have a key per property instead,
+	 * which are gathered up until the properties are next saved.
+	 *
+	 * @param saver the save to read from
+	 * @return the saved event properties, empty if there are none
+	 */
+	private static String getSavedEventProperties(SaveManager saver) {
+		if (saver.hasDataValue(EVENT_PROPERTIES)) {
+			return saver.getDataValue(EVENT_PROPERTIES, String.class);
+		}
+		StringBuilder sb = new StringBuilder();
+		for (String key : saver.getKeysByPrefix(EVENT_PROPERTY_SETTING)) {
+			if (sb.length() > 0) {
+				sb.append(Event.COMMA);
+			}
+			String propName = key.substring(EVENT_PROPERTY_SETTING.length()); // get rid of the EPS prefix
+			String propValue = saver.getDataValue(key, String.class);
+			sb.append(propName).append(Event.EQUALS).append(propValue);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Takes a snapshot of this chunk for the BackgroundSimulator, once the player is leaving it. Only spawned monsters
+	 * that are still alive are included, and terrain is reduced to bounding rectangles.
+	 *
+	 * @return snapshot of this chunk
+	 */
+	public BackgroundSimulator.ChunkState createChunkState() {
+		BackgroundSimulator.ChunkState state = new BackgroundSimulator.ChunkState(chunkX, chunkY, width, height);
+		for (int i = 0; i < monsters.size(); i++) {
+			Monster m = monsters.get(i);
+			if (m.getHealthBar().getHealth() > 0) {
+				state.addMonster(new BackgroundSimulator.MonsterState(monsters.getName(i), m.getX(), m.getY(),
+						m.getWidth(), m.getHeight(), m.getDirection(), m.isAggressive(), m.getSpeed(),
+						m.getCollisionBounds()));
+			}
+		}
+		Rectangle chunkBounds = new Rectangle(0, 0, width, height);
+		for (Rectangle rect : allRects) {
+			if (rect.overlaps(chunkBounds)) { // leave out streamed neighbours' shapes
+				state.addObstacle(rect);
+			}
+		}
+		for (RectangleBoundedPolygon rbp : allPolys) {
+			if (rbp.getBoundingRectangle().overlaps(chunkBounds)) {
+				state.addObstacle(rbp.getBoundingRectangle());
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * Restores y order of the ordered entities, after entities have moved. Entities that were added or removed are
+	 * already in place, so this only has to account for movement since the last call.
+	 */
+	private void sortOrderedEntities() {
+		orderedEntities.sort();
+	}
+
+	/**
+	 * Removes all entities pending removal from the ordered entities list, in a single pass. Entities removed from
+	 * their own store must be added to removedEntities, rather than being removed from orderedEntities one by one.
+	 */
+	private void purgeOrderedEntities() {
+		orderedEntities.removeAll(removedEntities);
+		removedEntities.clear();
+	}
+
+	/**
+	 * Gets the x coordinate of the chunk id that's currently loaded
+	 *
+	 * @return chunk x coord
+	 */
+	public int getChunkX() {
+		return chunkX;
+	}
+
+	/**
+	 * Gets the y coordinate of the chunk id that's currently loaded
+	 *
+	 * @return chunk y coord
+	 */
+	public int getChunkY() {
+		return chunkY;
+	}
+
+	/**
+	 * Returns whether this world's chunks are being streamed, in which case the player walks straight over borders
+	 * rather than the screen fading out and in.
+	 *
+	 * @return whether streaming
+	 */
+	public boolean isStreaming() {
+		return streamer != null;
+	}
+
+	/**
+	 * Changes to the neighbouring chunk in the given direction. When streaming, the change happens seamlessly at the
+	 * end of this frame (see GameMain.render()), otherwise the screen fades out first.
+	 *
+	 * @param dir direction of the chunk to change to
+	 */
+	public void changeMap(Direction dir) {
+		if (streamer != null) {
+			if (streamDirection == null) { // only one change per frame
+				streamDirection = dir;
+			}
+		} else {
+			getGame().setWorldChangeMapDirection(dir);
+			setTransitioning(false, GameMain.ChangeType.WORLD_CHANGE_MAP);
 		}
 	}
 
 	/**
-	 * Sorts the ordered entities ArrayList. Should be called whenever monsters have changed.
+	 * Gets the direction of the streamed chunk change requested this frame.
+	 *
+	 * @return direction to change chunks in, or null if no change was requested
 	 */
-	private void sortOrderedEntities() {
-		Collections.sort(orderedEntities, orderedEntitiesComp);
+	public Direction getStreamDirection() {
+		return streamDirection;
+	}
+
+	public float getCameraX() {
+		return cameraPos.x;
+	}
+
+	public float getCameraY() {
+		return cameraPos.y;
 	}
+
 	/**
-	 * Gets the x coordinate of the chunk id that's currently loaded
+	 * Moves the camera to the given position (clamped to the usual limits), eg. to carry on from where the previous
+	 * world's camera was after a streamed chunk change.
 	 *
-	 * @return chunk x coord
+	 * @param x camera x
+	 * @param y camera y
 	 */
-	public int getChunkX() {
-		return chunkX;
+	public void setCameraPosition(float x, float y) {
+		cameraPos.set(x, y, 0);
+		updateCamera();
+		camera.update();
 	}
 
 	/**
-	 * Gets the y coordinate of the chunk id that's currently loaded
+	 * Makes this world appear without fading in, for streamed chunk changes.
+	 */
+	public void skipFadeIn() {
+		fadeIn = false;
+	}
+
+	/**
+	 * Makes this streamed neighbour the current world, as the player walks into it from the given world: moves the
+	 * streaming window here, and takes the given world's ui rather than building another. Monster health bars on the
+	 * world stage are swapped for this world's, and event properties set since this world was loaded are read again.
+	 * The player must be attached afterwards.
 	 *
-	 * @return chunk y coord
+	 * @param current the world the player is walking out of, which has been saved
 	 */
-	public int getChunkY() {
-		return chunkY;
+	public void takeOver(WorldScreen current) {
+		if (!neighbour || !isBuilt()) {
+			throw new IllegalStateException("only a built neighbour can take over");
+		}
+		neighbour = false;
+		playerOffsetX = 0;
+		playerOffsetY = 0;
+		streamDirection = null; // still set if this was the world the player last walked out of
+		streamer.recentre(chunkX, chunkY);
+
+		this.ui = current.ui;
+		ui.world = this;
+		this.font = current.font;
+		this.debugMode = current.debugMode;
+		this.debugRenderer = current.debugRenderer;
+		this.stage = current.stage;
+		this.worldStage = current.worldStage;
+		this.endGameButton = current.endGameButton;
+		this.resumeButton = current.resumeButton;
+		this.saveAndExitButton = current.saveAndExitButton;
+		this.convoBox = current.convoBox;
+		this.inputMultiplexer = current.inputMultiplexer;
+		worldStage.clear(); // neighbours' health bars are added back by prepareAsNeighbour()
+		for (int i = 0; i < monsters.size(); i++) {
+			monsters.get(i).getHealthBar().setOffset(0, 0);
+			worldStage.addActor(monsters.get(i).getHealthBar());
+		}
+
+		SaveManager saver = SaveManager.getSaveManager();
+		String chunkId = (new String() + chunkX) + chunkY;
+		if (saver.hasDataValue(VISITED_CHUNK + chunkId)) { // same as loadValues()
+			eventProps.read(getSavedEventProperties(saver));
+		}
+		eventsDirty = true;
+	}
+
+	/**
+	 * Takes the player out of this world, as it becomes a streamed neighbour of the world the player has walked into.
+	 * Its entities carry on, stepped and drawn by that world, until this chunk leaves the streaming window or is
+	 * walked back into. Any projectiles in flight are dropped.
+	 */
+	public void detachPlayer() {
+		orderedEntities.remove(player);
+		player = null;
+		projectiles.clear();
+		neighbour = true;
+	}
+
+	/**
+	 * Takes the health bars of this streamed neighbour's monsters off the current world's stage, as it's discarded.
+	 */
+	public void removeHealthBars() {
+		for (int i = 0; i < monsters.size(); i++) {
+			monsters.get(i).getHealthBar().remove();
+		}
 	}
 
 	/**
@@ -626,12 +1277,30 @@ public class WorldScreen extends AbstractScreen {
 		saveAndExitButton.setVisible(paused);
 	}
 
+	/**
+	 * Saves the game to file and goes back to the menu.
+	 */
+	private void saveAndExit() {
+		saveValues(); // save the game and save player too
+		player.save();
+		List<WorldScreen> neighbours = getGame().getNeighbourWorlds();
+		for (int i = 0; i < neighbours.size(); i++) { // streamed neighbours have carried on too
+			neighbours.get(i).saveChunkValues();
+		}
+		BackgroundSimulator simulator = getGame().getBackgroundSimulator();
+		if (simulator != null) { // include what's happened in other chunks since they were left
+			simulator.mergeAll();
+		}
+		SaveManager.getSaveManager().saveToJson();
+		setTransitioning(false, GameMain.ChangeType.MENU);
+	}
+
 	/**
 	 * Resets monster aggro of all monsters. Called upon Player death or Player leaving the map chunk.
 	 */
 	public void deaggroMonsters() {
-		for (Monster m : monsters.values()) {
-			m.setAggressive(false);
+		for (int i = 0; i < monsters.size(); i++) {
+			monsters.get(i).setAggressive(false);
 		}
 	}
 
@@ -644,6 +1313,10 @@ public class WorldScreen extends AbstractScreen {
 	public void notifyPlayerDeathComplete() {
 		// deaggro monsters again as a hacky fix to the bug where monsters occasionally don't de-aggro properly
 		deaggroMonsters();
+		List<WorldScreen> neighbours = getGame().getNeighbourWorlds();
+		for (int i = 0; i < neighbours.size(); i++) { // including those chasing from streamed neighbours
+			neighbours.get(i).deaggroMonsters();
+		}
 		playerExpireComplete = true;
 		// in case player paused during the final hit
 		resumeButton.setVisible(false);
@@ -652,57 +1325,129 @@ public class WorldScreen extends AbstractScreen {
 	}
 
 	/**
-	 * Spawns the monster with the given name, ie. moves the monster from the spawnableMonsters map into the normal
-	 * monsters map (as well as orderedEntities list).
+	 * Runs the actions of the events triggered this step, in the order they were triggered.
+	 */
+	private void runQueuedActions() {
+		for (int i = 0; i < queuedActions.size(); i++) {
+			EventAction action = queuedActions.get(i);
+			switch (action.getType()) {
+				case MESSAGE:
+					// the game message corresponding to this event's name
+					String message = action.getMessage();
+					convoBox.setMessages((message != null) ? message : GameMessages.getMessage(action.getName()));
+					break;
+				case SPAWN_MONSTER:
+					spawnMonster(action.getName(), action.getSpawn());
+					break;
+				case SPAWN_COLLECTABLE:
+					spawnCollectable(action.getName(), action.getSpawn());
+					break;
+				case SET:
+					setEventProperty(action.getPropNameId(), action.getPropValueId());
+					break;
+				case ANIMATE:
+					animate(action.getName(), action.getObstacle());
+					break;
+			}
+		}
+		queuedActions.clear();
+	}
+
+	/**
+	 * Gets the descriptor of the monster with the given name that is waiting to be spawned, for events to target.
+	 *
+	 * @param mkey the monster name, as defined in the Tiled map
+	 * @return the descriptor, or null if there's no such monster waiting
+	 */
+	SpawnDescriptor getSpawnableMonster(String mkey) {
+		return spawnableMonsters.get(mkey);
+	}
+
+	/**
+	 * Gets the descriptor of the collectable with the given name that is waiting to be spawned, for events to target.
+	 *
+	 * @param ckey the collectable name, as defined in the Tiled map
+	 * @return the descriptor, or null if there's no such collectable waiting
+	 */
+	SpawnDescriptor getSpawnableCollectable(String ckey) {
+		return spawnableCollectables.get(ckey);
+	}
+
+	/**
+	 * Gets the AnimatedObstacle with the given name, for events to target.
+	 *
+	 * @param name name of the AnimatedObstacle
+	 * @return the obstacle, or null if there's no such obstacle
+	 */
+	AnimatedObstacle getAnimatedObstacle(String name) {
+		return animatedObstacles.get(name);
+	}
+
+	/**
+	 * Spawns the given monster, ie. creates the monster from its descriptor, removing it from the spawnableMonsters
+	 * map, and adds it to the normal monsters map (as well as orderedEntities list).
 	 *
-	 * If the monster name is invalid (or otherwise unsuccessful at spawning), an exception will be thrown.
+	 * If the monster isn't waiting to spawn (or is otherwise unsuccessful at spawning), an exception will be thrown.
 	 *
 	 * @param mkey the monster name, as defined in the Tiled map
+	 * @param spawn the monster's descriptor, as resolved when the event was compiled (may be null)
 	 */
-	public void spawnMonster(String mkey) {
-		Monster toSpawn = spawnableMonsters.get(mkey);
-		if (toSpawn == null) throw new RuntimeException("attempting to spawn monster '" + mkey + "' failed");
-		spawnableMonsters.remove(mkey); // remove from spawnable
+	private void spawnMonster(String mkey, SpawnDescriptor spawn) {
+		if (spawn == null || spawnableMonsters.remove(mkey) == null) { // remove from spawnable
+			throw new RuntimeException("attempting to spawn monster '" + mkey + "' failed");
+		}
+		Monster toSpawn = placeMonster(spawn);
 		toSpawn.setSpawning(true); // set spawn flag to true
 		toSpawn.setAggressive(true); // monster is aggro on spawn
 		toSpawn.face(player); // set direction to face player
-		monsters.put(mkey, toSpawn);
-		orderedEntities.add(toSpawn);
-		// no need to sort ordered entities here, will be done at end of update() after this
+		// inserted in place by current y, any movement is then picked up by the sort at end of update()
 	}
 
 	/**
-	 * Spawns the collectable with the given name, ie. moves it from the spawnableCollectables map into the normal
-	 * collectables map (as well as orderedEntities list).
+	 * Spawns the given collectable, ie. creates it from its descriptor, removing it from the spawnableCollectables map,
+	 * and adds it to the normal collectables map (as well as orderedEntities list).
 	 *
 	 * @param ckey the collectable name, as defined in the Tiled map
+	 * @param spawn the collectable's descriptor, as resolved when the event was compiled (may be null)
 	 */
-	public void spawnCollectable(String ckey) {
-		Collectable toSpawn = spawnableCollectables.get(ckey);
-		if (toSpawn == null) throw new RuntimeException("attempting to spawn collectable '" + ckey + "' failed");
-		spawnableCollectables.remove(ckey); // remove from spawnable
+	private void spawnCollectable(String ckey, SpawnDescriptor spawn) {
+		if (spawn == null || spawnableCollectables.remove(ckey) == null) { // remove from spawnable
+			throw new RuntimeException("attempting to spawn collectable '" + ckey + "' failed");
+		}
+		Collectable toSpawn = placeCollectable(spawn);
 		toSpawn.setSpawning(); // set spawning to fade in
-		collectables.put(ckey, toSpawn);
-		orderedEntities.add(toSpawn); // add to collectables and orderedEntities collections
+		spawningCollectables.add(toSpawn);
 	}
 
 	/**
 	 * Activates an AnimatedObstacle.
 	 *
 	 * @param name name of the AnimatedObstacle
+	 * @param obstacle the AnimatedObstacle, as resolved when the event was compiled (may be null)
 	 */
-	public void animate(String name) {
-		animatedObstacles.get(name).setAction(Action.ANIMATING);
+	private void animate(String name, AnimatedObstacle obstacle) {
+		if (obstacle == null) {
+			throw new RuntimeException("no animated obstacle with given name: " + name);
+		}
+		if (obstacle.getAction() != Action.ANIMATING) {
+			animatingObstacles.add(obstacle);
+		}
+		obstacle.setAction(Action.ANIMATING);
 	}
 
 	/**
-	 * Puts an event-set property name-value pair into the map of event-driven properties.
+	 * Sets an event-driven property, by the ids of its name and value.
 	 *
-	 * @param name property name
-	 * @param value property value
+	 * @param nameId id of the property name
+	 * @param valueId id of the property value
 	 */
-	public void setEventProperty(String name, String value) {
-		eventProps.put(name, value);
+	private void setEventProperty(int nameId, int valueId) {
+		if (eventProps.get(nameId) != valueId) {
+			eventProps.set(nameId, valueId);
+			// may have satisfied the requirements of an event the player is standing in. only when it actually changes,
+			// or a repeatable set event would keep re-checking (and re-firing) itself while the player stands still
+			eventsDirty = true;
+		}
 	}
 
 	/**
@@ -714,6 +1459,19 @@ public class WorldScreen extends AbstractScreen {
 		return height;
 	}
 
+	/**
+	 * Disposes of this world's map renderer (and its sprite cache) and background cache, and the ui if it hasn't been
+	 * handed on to another world. Called when this world is replaced by another.
+	 */
+	@Override
+	public void dispose() {
+		// when streaming, the map and its renderers belong to the streamer, which releases them once they leave its window
+		ResourceManager.release(this);
+		if (ui != null && ui.world == this) {
+			ResourceManager.release(ui);
+		}
+	}
+
 	/**
 	 * Returns the width of the current map.
 	 *
@@ -760,8 +1518,27 @@ public class WorldScreen extends AbstractScreen {
 	 */
 	@Override
 	public void update(float delta) {
+		// continue streaming in neighbouring chunks, and make newly arrived ones solid
+		if (streamer != null) {
+			streamer.update();
+			attachNeighbours();
+		}
+
 		// update scene2d first regardless of this world's pause status
 		stage.act(delta);
+		// shared idle animation clocks also advance regardless of pause status, same as entity animations
+		AnimationClock.update(delta);
+		// health bars of off-screen monsters are neither acted nor drawn
+		updateViewBounds();
+		for (int i = 0; i < monsters.size(); i++) {
+			Monster m = monsters.get(i);
+			m.getHealthBar().setCulled(!isInView(m));
+		}
+		// streamed neighbours are stepped along with this world, see stepAsNeighbour()
+		List<WorldScreen> neighbours = getGame().getNeighbourWorlds();
+		for (int i = 0; i < neighbours.size(); i++) {
+			neighbours.get(i).prepareAsNeighbour(this);
+		}
 		worldStage.act(delta);
 
 		// check toggle sound
@@ -777,6 +1554,11 @@ public class WorldScreen extends AbstractScreen {
 		// esc-pause, convobox active, or transitioning are all effectively pauses for game logic update purposes
 		boolean convoActive = convoBox.isVisible();
 		boolean effectivePause = (paused || convoActive || isTransitioning());
+		// chunks the player has left only carry on while this one does
+		BackgroundSimulator simulator = getGame().getBackgroundSimulator();
+		if (simulator != null && !effectivePause) {
+			simulator.advance(delta);
+		}
 
 		// toggle paused mode if player isn't dead
 		if (!playerExpireComplete && !convoActive && Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
@@ -786,6 +1568,12 @@ public class WorldScreen extends AbstractScreen {
 		// toggle debug mode
 		if (Gdx.input.isKeyJustPressed(Input.Keys.D)) {
 			debugMode = !debugMode;
+			if (debugMode) {
+				GLProfiler.enable();
+				System.out.println(ResourceManager.report());
+			} else {
+				GLProfiler.disable();
+			}
 		}
 
 		// increment accumulator, this is the variable we'll base all our stepping things on now
@@ -796,114 +1584,109 @@ public class WorldScreen extends AbstractScreen {
 
 			// update player and monsters
 			player.update(DELTA_STEP, effectivePause, allRects, allPolys);
-			// list to store keys for removal, which is done after iteration to prevent ConcurrentModificationException
-			ArrayList<String> removeKeys = new ArrayList<String>();
-			for (String mkey : monsters.keySet()) {
-				Monster monster = monsters.get(mkey);
-				monster.update(DELTA_STEP, effectivePause, allRects, allPolys);
-				monster.updateAggressive(player); // update aggressiveness (ie. check for aggro drop based on distance)
+			// iterate backwards, since removal moves the last monster into the removed slot
+			for (int i = monsters.size() - 1; i >= 0; i--) {
+				Monster monster = monsters.get(i);
+				monster.update(getSimLevel(monster), DELTA_STEP, effectivePause, allRects, allPolys);
+				monster.updateAggressive(getPlayerX(), getPlayerY()); // update aggressiveness (ie. check for aggro drop based on distance)
 				if (monster.isFadeOutComplete()) {
-					removeKeys.add(mkey);
+					monsters.removeIndex(i);
 					monster.getHealthBar().setVisible(false);
-					orderedEntities.remove(monster); // remove from orderedEntities as well as monsters list
+					removedEntities.add(monster); // remove from orderedEntities as well as monsters store
 				}
 			}
-			for (String mkey : removeKeys) {
-				monsters.remove(mkey);
-			}
 
-			for (Collectable collectable : collectables.values()) {
-				collectable.update(DELTA_STEP, effectivePause, allRects, allPolys);
+			// only collectables that are still fading in need updating, idle ones animate off the shared clock
+			for (int i = spawningCollectables.size() - 1; i >= 0; i--) {
+				Collectable c = spawningCollectables.get(i);
+				c.update(DELTA_STEP, effectivePause, allRects, allPolys);
+				if (!c.isSpawning()) {
+					int last = spawningCollectables.size() - 1;
+					spawningCollectables.set(i, spawningCollectables.get(last));
+					spawningCollectables.remove(last);
+				}
 			}
-			Iterator<Projectile> projIterator = projectiles.iterator();
-			while (projIterator.hasNext()) {
-				Projectile projectile = projIterator.next();
+			for (int p = projectiles.size() - 1; p >= 0; p--) {
+				Projectile projectile = projectiles.get(p);
 				projectile.update(DELTA_STEP, effectivePause, obstacleRects, obstaclePolys); // projectiles can fly over groundless
 				// check for expiry of projectiles, and remove from list if so
 				if (projectile.expireComplete()) {
-					projIterator.remove();
+					// swap last projectile into this slot, projectiles are always drawn on top so order doesn't matter
+					int last = projectiles.size() - 1;
+					projectiles.set(p, projectiles.get(last));
+					projectiles.remove(last);
 				} else if (!projectile.hasCollided()) { // check if not already collided
-					int damage = projectile.getDamage();
 					if (projectile.getOwner() == player) { // player-owned projectile, check against monsters
-						for (Monster monster : monsters.values()) {
-							if (monster.getAction() != Action.EXPIRING) { // ignore already-expiring monsters
-								// check for collision between projectile's main bounds and monster's defense bounds
-								if (Collisions.collidesShapes(projectile.getCollisionBounds(), monster.getDefenseCollisionBounds())) {
-									projectile.setCollided();
-									Direction from = Direction.getOpposite(projectile.getDirection());
-									monster.hit(damage, from);
-									SoundManager.playSound(SoundManager.SoundInfo.PLAYER_SPECIAL_HIT);
-								}
-							}
-						}
+						checkPlayerProjectile(projectile);
 					} else { // monster-owned projectile, check against player
 						if (Collisions.collidesShapes(projectile.getCollisionBounds(), player.getDefenseCollisionBounds())) {
 							projectile.setCollided();
 							Direction from = Direction.getOpposite(projectile.getDirection());
-							player.hit(damage, from);
+							player.hit(projectile.getDamage(), from);
 							SoundManager.playSound(SoundManager.SoundInfo.MONSTER_SPECIAL_HIT);
 						}
 					}
 				}
 			}
 
-			// update animated obstacles
-			for (AnimatedObstacle obstacle : animatedObstacles.values()) {
-				obstacle.update(delta, effectivePause, null, null); // collision bounds not required, since stationary
+			// update activated animated obstacles, idle ones animate off the shared clock
+			for (int i = animatingObstacles.size() - 1; i >= 0; i--) {
+				AnimatedObstacle obstacle = animatingObstacles.get(i);
+				// collision bounds not required, since stationary
+				obstacle.update(DELTA_STEP, effectivePause, null, null);
+				if (obstacle.getAction() != Action.ANIMATING) { // finished its one cycle
+					int last = animatingObstacles.size() - 1;
+					animatingObstacles.set(i, animatingObstacles.get(last));
+					animatingObstacles.remove(last);
+				}
 			}
 
 			// update player collision stuff last, after both player and entities have had a chance to move
 			// process collectables collision
-			removeKeys.clear(); // prep remove keys list for removal from collectables hashmap
-			for (String ckey : collectables.keySet()) {
-				Collectable c = collectables.get(ckey);
+			for (int i = collectables.size() - 1; i >= 0; i--) {
+				Collectable c = collectables.get(i);
 				if (Collisions.collidesShapes(player.getCollisionBounds(), c.getCollisionBounds())) {
-					// remove from the map, because we picked it up
-					removeKeys.add(ckey);
-					orderedEntities.remove(c);
+					// remove from the store, because we picked it up
+					collectables.removeIndex(i);
+					removedEntities.add(c);
 					// increment our collected counter
 					player.collect(c);
 				}
 			}
-			for (String ckey : removeKeys) {
-				collectables.remove(ckey);
-			}
 
-			// player melee attack collision with monsters
-			if (player.getAction() == Action.MELEE && !player.getMeleeHit() && player.getMeleeCanHit()) {
-				for (Monster monster : monsters.values()) {
-					if (monster.getAction() != Action.EXPIRING) { // ignore already-expiring monsters
-						if (Collisions.collidesShapes(player.getAttackCollisionBounds(), monster.getDefenseCollisionBounds())) {
-							player.setMeleeHit(); // set hit flag, so this melee hit won't be able to hit anything else now
-							Direction from = Direction.getOpposite(player.getDirection());
-							monster.hit(player.getMeleeDamage(), from);
-						}
-					}
-				}
-			}
-			// monster melee attack collision with player
-			for (Monster monster : monsters.values()) {
-				if (monster.getAction() == Action.MELEE && !monster.getMeleeHit() && monster.getMeleeCanHit()) {
-					if (Collisions.collidesShapes(player.getDefenseCollisionBounds(), monster.getAttackCollisionBounds())) {
-						monster.setMeleeHit();
-						Direction from = Direction.getOpposite(monster.getDirection());
-						player.hit(monster.getMeleeDamage(), from);
-						SoundManager.playSound(SoundManager.SoundInfo.MONSTER_MELEE);
-					}
-				}
+			// melee attack collisions between the player and monsters
+			checkPlayerMelee();
+			checkMonsterMelee();
+
+			// the monsters of streamed neighbours carry on, and can follow and fight the player over the border
+			for (int i = 0; i < neighbours.size(); i++) {
+				neighbours.get(i).stepAsNeighbour(this, effectivePause);
 			}
 
-			// event triggering
-			for (Event event : events) {
-				if (!event.hasTriggered()) {
-					if (Collisions.collidesShapes(player.getCollisionBounds(), event.getBounds())) {
+			// event triggering, only checked when the player has moved or event state has changed
+			if (eventsDirty || player.getX() != eventCheckX || player.getY() != eventCheckY) {
+				eventsDirty = false;
+				eventCheckX = player.getX();
+				eventCheckY = player.getY();
+				// only the events in the cells around the player, in map order
+				nearbyEvents.clear();
+				eventGrid.query(player.getCollisionBounds(), nearbyEvents);
+				if (nearbyEvents.size() > 1) {
+					Collections.sort(nearbyEvents, EVENT_ORDER);
+				}
+				for (int i = 0; i < nearbyEvents.size(); i++) {
+					Event event = nearbyEvents.get(i);
+					if (!event.hasTriggered() && event.satisfiesRequirements(eventProps)) {
 						// trigger this event
-						if (event.satisfiesRequirements(eventProps)) {
-							event.trigger(this);
-						}
+						event.trigger(queuedActions);
 					}
 				}
 			}
+			// run triggered actions now that nothing is being iterated over
+			runQueuedActions();
+
+			// apply this step's removals to the ordered entities list
+			purgeOrderedEntities();
 
 			// update camera
 			updateCamera();
@@ -911,11 +1694,200 @@ public class WorldScreen extends AbstractScreen {
 
 		// only need to sort once per frame (as opposed to every DELTA_STEP)
 		sortOrderedEntities();
+		for (int i = 0; i < neighbours.size(); i++) {
+			neighbours.get(i).sortOrderedEntities();
+		}
 
 		// update things that bind to camera
 		camera.update();
 	}
 
+	/**
+	 * Checks a projectile of the player's against this world's monsters, hitting any it collides with.
+	 *
+	 * @param projectile the player's projectile, which hasn't collided yet
+	 */
+	private void checkPlayerProjectile(Projectile projectile) {
+		for (int i = 0; i < monsters.size(); i++) {
+			Monster monster = monsters.get(i);
+			if (monster.getAction() != Action.EXPIRING) { // ignore already-expiring monsters
+				// check for collision between projectile's main bounds and monster's defense bounds
+				if (Collisions.collidesShapes(toLocal(projectile.getCollisionBounds()), monster.getDefenseCollisionBounds())) {
+					projectile.setCollided();
+					Direction from = Direction.getOpposite(projectile.getDirection());
+					monster.hit(projectile.getDamage(), from);
+					SoundManager.playSound(SoundManager.SoundInfo.PLAYER_SPECIAL_HIT,
+							monster.getX() + monster.getWidth() / 2, monster.getY() + monster.getHeight() / 2);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks the player's melee attack against this world's monsters.
+	 */
+	private void checkPlayerMelee() {
+		if (player.getAction() == Action.MELEE && !player.getMeleeHit() && player.getMeleeCanHit()) {
+			for (int i = 0; i < monsters.size(); i++) {
+				Monster monster = monsters.get(i);
+				if (monster.getAction() != Action.EXPIRING) { // ignore already-expiring monsters
+					if (Collisions.collidesShapes(toLocal(player.getAttackCollisionBounds()), monster.getDefenseCollisionBounds())) {
+						player.setMeleeHit(); // set hit flag, so this melee hit won't be able to hit anything else now
+						Direction from = Direction.getOpposite(player.getDirection());
+						monster.hit(player.getMeleeDamage(), from);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks the melee attacks of this world's monsters against the player.
+	 */
+	private void checkMonsterMelee() {
+		for (int i = 0; i < monsters.size(); i++) {
+			Monster monster = monsters.get(i);
+			if (monster.getAction() == Action.MELEE && !monster.getMeleeHit() && monster.getMeleeCanHit()) {
+				if (Collisions.collidesShapes(toLocal(player.getDefenseCollisionBounds()), monster.getAttackCollisionBounds())) {
+					monster.setMeleeHit();
+					Direction from = Direction.getOpposite(monster.getDirection());
+					player.hit(monster.getMeleeDamage(), from);
+					SoundManager.playSound(SoundManager.SoundInfo.MONSTER_MELEE,
+							monster.getX() + monster.getWidth() / 2, monster.getY() + monster.getHeight() / 2);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the given bounds of the player or their projectile in this world's coordinates, which are offset from the
+	 * player's own if this is a streamed neighbour. The returned rectangle is reused by the next call.
+	 *
+	 * @param bounds bounds in the coordinates of the player's chunk
+	 * @return the same bounds in this world's coordinates
+	 */
+	private Rectangle toLocal(Rectangle bounds) {
+		return localBounds.set(bounds.x + playerOffsetX, bounds.y + playerOffsetY, bounds.width, bounds.height);
+	}
+
+	/**
+	 * Gets this streamed neighbour ready for a frame of the current world: finds where the player and the view are
+	 * relative to this chunk, makes newly streamed in chunks around it solid, and puts the health bars of its monsters
+	 * on the current world's stage at their offset.
+	 *
+	 * @param current the world the player is in
+	 */
+	private void prepareAsNeighbour(WorldScreen current) {
+		player = current.player;
+		playerOffsetX = (current.chunkX - chunkX) * CHUNK_WIDTH;
+		playerOffsetY = (current.chunkY - chunkY) * CHUNK_HEIGHT;
+		viewBounds.set(current.viewBounds);
+		viewBounds.x += playerOffsetX;
+		viewBounds.y += playerOffsetY;
+		attachNeighbours();
+		for (int i = 0; i < monsters.size(); i++) {
+			Monster m = monsters.get(i);
+			if (m.getHealthBar().getStage() != current.worldStage) {
+				current.worldStage.addActor(m.getHealthBar());
+			}
+			m.getHealthBar().setOffset(-playerOffsetX, -playerOffsetY);
+			m.getHealthBar().setCulled(!isInView(m));
+		}
+	}
+
+	/**
+	 * Steps this streamed neighbour along with the current world, in this world's coordinates. Its monsters are updated
+	 * at the same levels of detail as the current world's, so those in view move normally, and aggressive ones chase
+	 * the player over the border. They're checked against the player's attacks and attack the player in turn, and
+	 * their projectiles are handed to the current world to fly on.
+	 *
+	 * @param current the world the player is in
+	 * @param paused whether the current world is effectively paused
+	 */
+	private void stepAsNeighbour(WorldScreen current, boolean paused) {
+		// sounds are placed relative to the current world's camera
+		SoundManager.setListener(current.cameraPos.x + playerOffsetX, current.cameraPos.y + playerOffsetY);
+		for (int i = monsters.size() - 1; i >= 0; i--) {
+			Monster monster = monsters.get(i);
+			monster.update(getSimLevel(monster), DELTA_STEP, paused, allRects, allPolys);
+			monster.updateAggressive(getPlayerX(), getPlayerY());
+			if (monster.isFadeOutComplete()) {
+				monsters.removeIndex(i);
+				monster.getHealthBar().setVisible(false);
+				removedEntities.add(monster);
+			}
+		}
+		for (int p = 0; p < projectiles.size(); p++) {
+			Projectile projectile = projectiles.get(p);
+			projectile.setPosition(projectile.getX() - playerOffsetX, projectile.getY() - playerOffsetY);
+			current.projectiles.add(projectile);
+		}
+		projectiles.clear();
+		for (int p = 0; p < current.projectiles.size(); p++) {
+			Projectile projectile = current.projectiles.get(p);
+			if (projectile.getOwner() == player && !projectile.hasCollided() && !projectile.expireComplete()) {
+				checkPlayerProjectile(projectile);
+			}
+		}
+		checkPlayerMelee();
+		checkMonsterMelee();
+		purgeOrderedEntities();
+		SoundManager.setListener(current.cameraPos.x, current.cameraPos.y);
+	}
+
+	/**
+	 * Gets the player's x coordinate in this world's coordinates, which for a streamed neighbour is relative to this
+	 * chunk rather than the one the player is in.
+	 *
+	 * @return the player's x coordinate
+	 */
+	public float getPlayerX() {
+		return player.getX() + playerOffsetX;
+	}
+
+	/**
+	 * Gets the player's y coordinate in this world's coordinates, like getPlayerX().
+	 *
+	 * @return the player's y coordinate
+	 */
+	public float getPlayerY() {
+		return player.getY() + playerOffsetY;
+	}
+
+	/**
+	 * Checks whether something with the given bounds is on the map. When streaming, that includes the neighbouring
+	 * chunks that have streamed in, so monsters can walk over borders (they still belong to, and are saved with, their
+	 * own chunk).
+	 *
+	 * @param x x coordinate
+	 * @param y y coordinate
+	 * @param w width
+	 * @param h height
+	 * @return whether the bounds are on the map
+	 */
+	public boolean isWithinBounds(float x, float y, float w, float h) {
+		if (x >= 0 && y >= 0 && x + w <= width && y + h <= height) {
+			return true;
+		}
+		if (streamer == null || x < -CHUNK_WIDTH || y < -CHUNK_HEIGHT || x + w > width + CHUNK_WIDTH
+				|| y + h > height + CHUNK_HEIGHT) {
+			return false;
+		}
+		// every chunk the bounds overlap must have streamed in
+		int minDx = (x < 0) ? -1 : 0;
+		int maxDx = (x + w > width) ? 1 : 0;
+		int minDy = (y < 0) ? -1 : 0;
+		int maxDy = (y + h > height) ? 1 : 0;
+		for (int dx = minDx; dx <= maxDx; dx++) {
+			for (int dy = minDy; dy <= maxDy; dy++) {
+				if ((dx != 0 || dy != 0) && !hasNeighbour(dx, dy)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Gets the convo box label in this world.
 	 */
@@ -923,6 +1895,60 @@ public class WorldScreen extends AbstractScreen {
 		return convoBox;
 	}
 
+	/**
+	 * Updates the view bounds used for culling to match the current camera position.
+	 */
+	private void updateViewBounds() {
+		viewBounds.set(cameraPos.x - (winWidth / 2) - CULL_MARGIN, cameraPos.y - (winHeight / 2) - CULL_MARGIN,
+				winWidth + (CULL_MARGIN * 2), winHeight + (CULL_MARGIN * 2));
+	}
+
+	/**
+	 * Picks the simulation level of detail for the given monster. Monsters that are in view, aggressive or doing
+	 * anything other than wandering are updated fully. Others are updated at a reduced rate, or frozen if they are far
+	 * enough away from the player.
+	 *
+	 * @param m the monster
+	 * @return the simulation level to update the monster at
+	 */
+	private Monster.SimLevel getSimLevel(Monster m) {
+		if (m.isAggressive() || m.getAction() != Action.IDLE_MOVE || isInView(m)) {
+			return Monster.SimLevel.FULL;
+		}
+		float dx = m.getX() - getPlayerX();
+		float dy = m.getY() - getPlayerY();
+		if (dx * dx + dy * dy > FREEZE_DISTANCE * FREEZE_DISTANCE) {
+			return Monster.SimLevel.FROZEN;
+		}
+		return Monster.SimLevel.REDUCED;
+	}
+
+	/**
+	 * Checks whether the given entity's sprite bounds are within view of the camera (plus margin). Entities that are not
+	 * in view don't need to be drawn.
+	 *
+	 * @param e the entity to check
+	 * @return whether the entity is in view
+	 */
+	private boolean isInView(Entity e) {
+		return isInView(e, 0, 0);
+	}
+
+	/**
+	 * Checks whether the given entity of a streamed neighbour is in view, like isInView(Entity).
+	 *
+	 * @param e the entity to check
+	 * @param offsetX x offset of the entity's chunk from this one
+	 * @param offsetY y offset of the entity's chunk from this one
+	 * @return whether the entity is in view
+	 */
+	private boolean isInView(Entity e, float offsetX, float offsetY) {
+		float x = e.getX() + offsetX;
+		float y = e.getY() + offsetY;
+		return x < viewBounds.x + viewBounds.width && x + e.getWidth() > viewBounds.x
+				&& y < viewBounds.y + viewBounds.height && y + e.getHeight() > viewBounds.y;
+	}
+
 	/**
 	 * Updates camera and moves it to be in the appropriate place relative to the player.
 	 */
@@ -955,32 +1981,77 @@ public class WorldScreen extends AbstractScreen {
 			translateY = -(distUd - diffDown);
 		}
 		camera.translate(translateX, translateY);
-		// make sure camera stays within bounds so no black screen portions are shown
-		if (cameraPos.x < CAM_MIN_X) {
-			cameraPos.x = CAM_MIN_X;
-		} else if (cameraPos.x > CAM_MAX_X) {
-			cameraPos.x = CAM_MAX_X;
+		// make sure camera stays within bounds so no black screen portions are shown, streamed neighbours extend these
+		float camMinX = hasNeighbour(-1, 0) ? CAM_MIN_X - CHUNK_WIDTH : CAM_MIN_X;
+		float camMaxX = hasNeighbour(1, 0) ? CAM_MAX_X + CHUNK_WIDTH : CAM_MAX_X;
+		float camMinY = hasNeighbour(0, -1) ? CAM_MIN_Y - CHUNK_HEIGHT : CAM_MIN_Y;
+		float camMaxY = hasNeighbour(0, 1) ? CAM_MAX_Y + CHUNK_HEIGHT : CAM_MAX_Y;
+		if (cameraPos.x < camMinX) {
+			cameraPos.x = camMinX;
+		} else if (cameraPos.x > camMaxX) {
+			cameraPos.x = camMaxX;
 		}
-		if (cameraPos.y < CAM_MIN_Y) {
-			cameraPos.y = CAM_MIN_Y;
-		} else if (cameraPos.y > CAM_MAX_Y) {
-			cameraPos.y = CAM_MAX_Y;
+		if (cameraPos.y < camMinY) {
+			cameraPos.y = camMinY;
+		} else if (cameraPos.y > camMaxY) {
+			cameraPos.y = camMaxY;
 		}
+		// positional sounds are heard from the middle of the screen
+		SoundManager.setListener(cameraPos.x, cameraPos.y);
 	}
 
 	@Override
 	public void render() {
+		// take GL profiler counts for the previous frame, before anything is drawn in this one
+		if (GLProfiler.isEnabled()) {
+			lastDrawCalls = GLProfiler.drawCalls;
+			lastTextureBindings = GLProfiler.textureBindings;
+			GLProfiler.reset();
+		}
+
 		// clear screen
 		clearScreen();
 
 		// start actual rendering
 		mapRenderer.setView(camera);
+		updateViewBounds();
+		findVisibleNeighbours();
+		float viewX = cameraPos.x - (winWidth / 2);
+		float viewY = cameraPos.y - (winHeight / 2);
 
 		// @TODO layer projectiles as well - this is gonna be a bit special since the down projectile should be on top
 		// of the player... but it won't be (unless it's made to be very tall? that's an idea)
 
 		// render background
-		mapRenderer.renderBackgroundLayer();
+		if (backgroundCache != null) {
+			spriteBatch.setProjectionMatrix(camera.combined);
+			spriteBatch.begin();
+			// draw the low detail copy while mostly faded out, since it's largely covered up by the tint anyway
+			boolean lowDetail = getTransitionAlpha() >= LOW_DETAIL_ALPHA;
+			backgroundCache.render(spriteBatch, viewX, viewY, winWidth, winHeight, lowDetail);
+			for (int i = 0; i < visibleNeighbours.size(); i++) {
+				ChunkStreamer.Chunk chunk = visibleNeighbours.get(i);
+				float offsetX = getNeighbourOffsetX(chunk);
+				float offsetY = getNeighbourOffsetY(chunk);
+				spriteBatch.setTransformMatrix(neighbourMatrix.setToTranslation(offsetX, offsetY, 0));
+				chunk.getBackground().render(spriteBatch, viewX - offsetX, viewY - offsetY, winWidth, winHeight,
+						lowDetail);
+			}
+			if (!visibleNeighbours.isEmpty()) {
+				spriteBatch.setTransformMatrix(neighbourMatrix.idt());
+			}
+			spriteBatch.end();
+		} else {
+			mapRenderer.renderBackgroundLayer();
+			if (!visibleNeighbours.isEmpty()) {
+				for (int i = 0; i < visibleNeighbours.size(); i++) {
+					ChunkStreamer.Chunk chunk = visibleNeighbours.get(i);
+					setNeighbourView(chunk, viewX, viewY);
+					chunk.getRenderer().renderBackgroundLayer();
+				}
+				mapRenderer.setView(camera);
+			}
+		}
 
 		// now render map obstacles and entities interchangeably, top to bottom
 		int camY = Math.round(cameraPos.y);
@@ -990,43 +2061,58 @@ public class WorldScreen extends AbstractScreen {
 		spriteBatch.setProjectionMatrix(camera.combined);
 		spriteBatch.begin();
 
-		int numEntities = orderedEntities.size();
-		if (numEntities > 0) {
-			int highestEntityY = (int) orderedEntities.get(0).getY();
-			// first: render from top of screen to highest LiveEntity's y
-			mapRenderer.renderSpriteLayer(screenTop, highestEntityY, false);
+		// entities standing above the top of the screen can't be seen, so start from the first one that isn't, in this
+		// chunk and in each neighbour in view
+		findEntitySources(screenTop);
+		int s = nextEntitySource();
+		if (s != -1) {
+			int highestEntityY = (int) getNextEntityY(s);
+			// first: render from top of screen to highest visible LiveEntity's y
+			renderSpriteLayer(screenTop, highestEntityY, false);
 			int lowestRenderedEntityY = 0;
 			// loop and interchangeably render sprites and map layers
-			int i = 0;
-			while (i < numEntities) {
-				Entity e = orderedEntities.get(i);
-				int thisY = (int) e.getY();
+			while (s != -1) {
+				Entity e = entitySources[s].orderedEntities.get(sourceNext[s]);
+				int thisY = (int) getNextEntityY(s);
 				if (thisY < screenBot - HorizontalMapRenderer.MAX_SPRITE_HEIGHT) {
 					// we're low enough to ignore everything from here on, break out of loop
 					break;
 				}
-				if (e instanceof Monster || !playerExpireComplete) {
+				if (s > 0) { // a neighbour's entity, drawn at the neighbour's offset
+					if (isInView(e, sourceOffsetX[s], sourceOffsetY[s])) {
+						spriteBatch.setTransformMatrix(neighbourMatrix.setToTranslation(sourceOffsetX[s],
+								sourceOffsetY[s], 0));
+						e.render(spriteBatch);
+						spriteBatch.setTransformMatrix(neighbourMatrix.idt());
+					}
+				} else if ((e instanceof Monster || !playerExpireComplete) && isInView(e)) {
 					e.render(spriteBatch);
-					lowestRenderedEntityY = thisY;
-				} // else: this entity is completely expired player, so don't render
+				} // else: this entity is off-screen or completely expired player, so don't render
+				// the map has been rendered down to here either way
+				lowestRenderedEntityY = thisY;
 
-				i++; // increment i in the middle because next portion needs to check it
+				sourceNext[s]++; // move on in the middle because next portion needs to check it
+				s = nextEntitySource();
 
-				if (i < numEntities) { // if there is another LiveEntity lower, render the gap
-					int nextHighestY = (int) orderedEntities.get(i).getY();
-					mapRenderer.renderSpriteLayer(thisY - 1, nextHighestY, false);
+				if (s != -1) { // if there is another LiveEntity lower, render the gap
+					int nextHighestY = (int) getNextEntityY(s);
+					// nothing above the top of the screen is visible, so skip rows up there
+					renderSpriteLayer(Math.min(thisY - 1, screenTop), nextHighestY, false);
 				}
 			}
 			// lastly, render from lowestRenderedEntityY to bottom of screen
-			mapRenderer.renderSpriteLayer(lowestRenderedEntityY - 1, screenBot, true);
+			renderSpriteLayer(lowestRenderedEntityY - 1, screenBot, true);
 		} else {
-			// no entities, this shouldn't really happen but just in case - render everything
-			mapRenderer.renderSpriteLayer(screenTop, screenBot, true);
+			// no entities on screen (or at all) - render everything
+			renderSpriteLayer(screenTop, screenBot, true);
 		}
 
 		// projectiles always rendered on the very top
-		for (Projectile projectile : projectiles) {
-			projectile.render(spriteBatch);
+		for (int i = 0; i < projectiles.size(); i++) {
+			Projectile projectile = projectiles.get(i);
+			if (isInView(projectile)) {
+				projectile.render(spriteBatch);
+			}
 		}
 		spriteBatch.end();
 
@@ -1047,6 +2133,9 @@ public class WorldScreen extends AbstractScreen {
 			font.draw(spriteBatch, "FPS: " + Gdx.graphics.getFramesPerSecond(), 20, winHeight - 20);
 			font.draw(spriteBatch, "Current Map: (" + chunkX + ", " + chunkY + ")", 20, winHeight - 50);
 			font.draw(spriteBatch, "Sound: " + (SoundManager.isEnabled() ? "On" : "Off"), 20, winHeight - 65);
+			font.draw(spriteBatch, "Draw calls: " + lastDrawCalls + ", texture binds: " + lastTextureBindings, 20,
+					winHeight - 80);
+			font.draw(spriteBatch, "GPU memory: " + (ResourceManager.getTotalBytes() / 1024) + " KB", 20, winHeight - 95);
 			spriteBatch.end();
 
 			// debug shapes
@@ -1062,8 +2151,10 @@ public class WorldScreen extends AbstractScreen {
 				r = player.getCollisionBounds();
 				debugRender(r);
 			}
-			// draw terrain collision bounds
-			for (RectangleBoundedPolygon rbp : allPolys) { // all includes obstacle
+			// draw terrain collision bounds that are in view
+			visiblePolys.clear();
+			polyGrid.query(viewBounds, visiblePolys);
+			for (RectangleBoundedPolygon rbp : visiblePolys) { // all includes obstacle
 				List<Polygon> ps = rbp.getSubPolygons();
 				for (Polygon p : ps) {
 					debugRenderer.polygon(p.getTransformedVertices()); // render subpolygon
@@ -1071,12 +2162,15 @@ public class WorldScreen extends AbstractScreen {
 				// render bounding rectangle of the RectangleBoundedPolygon
 				debugRender(rbp.getBoundingRectangle());
 			}
-			for (Rectangle rect : allRects) {
+			visibleRects.clear();
+			rectGrid.query(viewBounds, visibleRects);
+			for (Rectangle rect : visibleRects) {
 				debugRender(rect);
 			}
 
 			// draw other entities boxes
-			for (Monster m : monsters.values()) {
+			for (int i = 0; i < monsters.size(); i++) {
+				Monster m = monsters.get(i);
 				r = m.getDefenseCollisionBounds();
 				debugRender(r);
 				if (m.getSpecialDamage() != 0) { // draw special attack box only if it can special attack
@@ -1094,8 +2188,8 @@ public class WorldScreen extends AbstractScreen {
 					debugRender(r);
 				}
 			}
-			for (Collectable c : collectables.values()) {
-				r = c.getCollisionBounds();
+			for (int i = 0; i < collectables.size(); i++) {
+				r = collectables.get(i).getCollisionBounds();
 				debugRender(r);
 			}
 			for (Projectile p : projectiles) {
@@ -1123,13 +2217,146 @@ public class WorldScreen extends AbstractScreen {
 			debugRenderer.end();
 			debugRenderer.setColor(Color.BLUE);
 			debugRenderer.begin(ShapeType.Line);
-			for (AnimatedObstacle o : animatedObstacles.values()) {
-				debugRender(o.getCollisionBounds()); // draw already-triggered events in red
+			for (int i = 0; i < animatedObstacles.size(); i++) {
+				debugRender(animatedObstacles.get(i).getCollisionBounds()); // draw animated obstacle bounds in blue
 			}
 			debugRenderer.end();
 		}
 	}
 
+	/**
+	 * Finds which streamed neighbouring chunks are in view this frame, including any of their sprites which may be
+	 * hanging over the border.
+	 */
+	private void findVisibleNeighbours() {
+		if (streamer == null) {
+			return;
+		}
+		visibleNeighbours.clear();
+		for (int dx = -1; dx <= 1; dx++) {
+			for (int dy = -1; dy <= 1; dy++) {
+				if ((dx == 0 && dy == 0) || !hasNeighbour(dx, dy)) {
+					continue;
+				}
+				float offsetX = dx * CHUNK_WIDTH;
+				float offsetY = dy * CHUNK_HEIGHT;
+				if (offsetX < viewBounds.x + viewBounds.width
+						&& offsetX + CHUNK_WIDTH + HorizontalMapRenderer.MAX_SPRITE_WIDTH > viewBounds.x
+						&& offsetY < viewBounds.y + viewBounds.height
+						&& offsetY + CHUNK_HEIGHT + HorizontalMapRenderer.MAX_SPRITE_HEIGHT > viewBounds.y) {
+					visibleNeighbours.add(streamer.getLoadedChunk(chunkX + dx, chunkY + dy));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gathers the worlds whose entities are drawn this frame: this one, and the built worlds of the streamed neighbours
+	 * (see GameMain.getNeighbourWorlds()), whether or not their chunk is in view, since their monsters can walk over
+	 * the border. Each starts from its first entity at or below the given y.
+	 */
+	private void findEntitySources(int screenTop) {
+		sourceCount = 0;
+		addEntitySource(this, 0, 0, screenTop);
+		List<WorldScreen> neighbours = getGame().getNeighbourWorlds();
+		for (int i = 0; i < neighbours.size(); i++) {
+			WorldScreen world = neighbours.get(i);
+			addEntitySource(world, (world.chunkX - chunkX) * CHUNK_WIDTH, (world.chunkY - chunkY) * CHUNK_HEIGHT,
+					screenTop);
+		}
+	}
+
+	private void addEntitySource(WorldScreen world, float offsetX, float offsetY, int screenTop) {
+		entitySources[sourceCount] = world;
+		sourceOffsetX[sourceCount] = offsetX;
+		sourceOffsetY[sourceCount] = offsetY;
+		sourceNext[sourceCount] = world.orderedEntities.firstAtOrBelow(screenTop - offsetY);
+		sourceCount++;
+	}
+
+	/**
+	 * Picks the entity source whose next entity is highest up, so that entities are drawn top to bottom across borders.
+	 *
+	 * @return index of the source in entitySources, or -1 if all of their entities have been drawn
+	 */
+	private int nextEntitySource() {
+		int next = -1;
+		float nextY = 0;
+		for (int i = 0; i < sourceCount; i++) {
+			if (sourceNext[i] < entitySources[i].orderedEntities.size()) {
+				float y = getNextEntityY(i);
+				if (next == -1 || y > nextY) {
+					next = i;
+					nextY = y;
+				}
+			}
+		}
+		return next;
+	}
+
+	/**
+	 * Gets the y coordinate of the given source's next entity, relative to this chunk.
+	 */
+	private float getNextEntityY(int source) {
+		return entitySources[source].orderedEntities.get(sourceNext[source]).getY() + sourceOffsetY[source];
+	}
+
+	/**
+	 * Gets the streamed neighbouring chunks that were in view last frame.
+	 *
+	 * @return the neighbours in view, not to be modified
+	 */
+	public List<ChunkStreamer.Chunk> getVisibleNeighbours() {
+		return visibleNeighbours;
+	}
+
+	private float getNeighbourOffsetX(ChunkStreamer.Chunk chunk) {
+		return (chunk.getChunkX() - chunkX) * CHUNK_WIDTH;
+	}
+
+	private float getNeighbourOffsetY(ChunkStreamer.Chunk chunk) {
+		return (chunk.getChunkY() - chunkY) * CHUNK_HEIGHT;
+	}
+
+	/**
+	 * Points the given neighbouring chunk's renderer at the camera, offset to where the chunk is relative to this one.
+	 * This also sets the sprite batch's projection matrix, which must be set back to the camera's afterwards.
+	 */
+	private void setNeighbourView(ChunkStreamer.Chunk chunk, float viewX, float viewY) {
+		float offsetX = getNeighbourOffsetX(chunk);
+		float offsetY = getNeighbourOffsetY(chunk);
+		neighbourMatrix.set(camera.combined).translate(offsetX, offsetY, 0);
+		chunk.getRenderer().setView(neighbourMatrix, viewX - offsetX, viewY - offsetY, winWidth, winHeight);
+	}
+
+	/**
+	 * Renders the given portion of the sprite layer (see HorizontalMapRenderer.renderSpriteLayer()) of this chunk,
+	 * and of any streamed neighbouring chunks in view, so that sprites are depth ordered across borders.
+	 */
+	private void renderSpriteLayer(int portionTop, int portionBot, boolean last) {
+		mapRenderer.renderSpriteLayer(portionTop, portionBot, last);
+		if (streamer == null || visibleNeighbours.isEmpty()) {
+			return;
+		}
+		float viewX = cameraPos.x - (winWidth / 2);
+		float viewY = cameraPos.y - (winHeight / 2);
+		int lowest = last ? portionBot - HorizontalMapRenderer.MAX_SPRITE_HEIGHT : portionBot;
+		boolean drawn = false;
+		for (int i = 0; i < visibleNeighbours.size(); i++) {
+			ChunkStreamer.Chunk chunk = visibleNeighbours.get(i);
+			int offsetY = (int) getNeighbourOffsetY(chunk);
+			if (offsetY > portionTop || offsetY + CHUNK_HEIGHT <= lowest) {
+				continue; // none of this chunk's rows are in the portion
+			}
+			setNeighbourView(chunk, viewX, viewY);
+			chunk.getRenderer().renderSpriteLayer(portionTop - offsetY, portionBot - offsetY, last);
+			drawn = true;
+		}
+		if (drawn) {
+			spriteBatch.setProjectionMatrix(camera.combined);
+		}
+	}
+
 	/**
 	 * Gets whether or not the game is currently in debug mode.
 	 *
@@ -1150,7 +2377,9 @@ public class WorldScreen extends AbstractScreen {
 
 	@Override
 	public void show() {
-		super.show();
+		if (fadeIn) {
+			super.show();
+		}
 
 		// set input handler since it will be menuscreen's handler before this
 		Gdx.input.setInputProcessor(inputMultiplexer);
@@ -1,5 +1,7 @@
 package com.arctite.dontfreeze.entities;
 
+import java.util.HashMap;
+
 /**
  * Enumeration of possible actions an Entity can currently be undertaking, some of which can only be applicable to
  * certain Entity implementations (eg. attacks are player/monsters only)
@@ -26,6 +28,15 @@ public enum Action {
 	ANIMATING("a"),
 	;
 
+	/** Actions by prefix */
+	private static final HashMap<String, Action> BY_PREFIX = new HashMap<String, Action>();
+
+	static {
+		for (Action action : values()) {
+			BY_PREFIX.put(action.prefix, action);
+		}
+	}
+
 	private String prefix;
 
 	private Action(String prefix) {
@@ -37,11 +48,6 @@ public enum Action {
 	}
 
 	public static Action getByPrefix(String prefix) {
-		for (Action action : values()) {
-			if (action.getPrefix().equals(prefix)) {
-				return action;
-			}
-		}
-		return null;
+		return BY_PREFIX.get(prefix);
 	}
 }
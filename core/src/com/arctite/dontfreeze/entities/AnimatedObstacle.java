@@ -48,6 +48,7 @@ public class AnimatedObstacle implements Entity {
 		this.action = Action.IDLE_MOVE;
 
 		this.animations = new AnimationManager(AnimationManager.UNI_DIR, this, info);
+		this.animations.setSharedClock(0); // idle animation doesn't need updating, only activations do
 	}
 
 	@Override
@@ -0,0 +1,51 @@
+package com.arctite.dontfreeze.entities;
+
+import com.arctite.dontfreeze.util.ResourceInfo;
+
+/**
+ * Static class which keeps one shared animation clock per ResourceInfo, for idle looping animations. Entities sharing a
+ * clock (plus their own phase offset) don't need to have their animations updated every step - their current frame is
+ * worked out from the shared clock when rendering.
+ *
+ * Each clock is kept within one loop of its resource's idle animation, so it never loses float precision.
+ */
+public class AnimationClock {
+
+	/** Current time of each resource's clock, by ResourceInfo.ordinal() */
+	private static float[] times = new float[ResourceInfo.values().length];
+	/** Idle loop duration of each resource, or 0 if no entity of that resource uses a shared clock */
+	private static float[] loops = new float[ResourceInfo.values().length];
+
+	/**
+	 * Registers the idle loop duration of the given resource, starting its clock if it hasn't started yet.
+	 *
+	 * @param info the resource
+	 * @param loopDuration duration of one loop of the resource's idle animation
+	 */
+	public static void register(ResourceInfo info, float loopDuration) {
+		loops[info.ordinal()] = loopDuration;
+	}
+
+	/**
+	 * Advances all clocks. Should be called once per frame by the screen that is rendering shared clock entities.
+	 *
+	 * @param delta time passed since last frame
+	 */
+	public static void update(float delta) {
+		for (int i = 0; i < loops.length; i++) {
+			if (loops[i] > 0) {
+				times[i] = (times[i] + delta) % loops[i];
+			}
+		}
+	}
+
+	/**
+	 * Gets the current time of the given resource's clock.
+	 *
+	 * @param info the resource
+	 * @return clock time, within [0, loop duration)
+	 */
+	public static float getTime(ResourceInfo info) {
+		return times[info.ordinal()];
+	}
+}
@@ -1,9 +1,8 @@
 package com.arctite.dontfreeze.entities;
 
+import com.arctite.dontfreeze.util.AtlasManager;
 import com.arctite.dontfreeze.util.ResourceInfo;
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.Animation;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
@@ -28,17 +27,27 @@ public class AnimationManager {
 	public static final int MULTI_DIR_CLONE = 2;
 
 	private float stateTime;
-	private HashMap<String, Animation> animations;
+	/** Animations by [Action.ordinal()][Direction.ordinal()], with missing directions already falling back to DOWN */
+	private Animation[][] animations;
 
 	/** The Entity that this animation manager is linked to */
 	private Entity entity;
 	/** The last action that this entity was in the process of completing, when getCurrentFrame() was last called */
 	private Action lastAction;
-	/** Prefix denoting the current animation type */
-	private String prefix;
+	/** The direction last rendered */
+	private Direction lastDir;
+	/** The current animation, for lastAction and lastDir */
+	private Animation current;
 	/** Animation loop time @TODO this is only for 1 type of frame, need to do diff types */
 	private float animationTime;
 
+	/** The resource these animations are of */
+	private ResourceInfo info;
+	/** Whether the idle animation follows the resource's shared AnimationClock, rather than stateTime */
+	private boolean sharedClock;
+	/** Offset of this instance from the shared clock, so that instances don't all animate in sync */
+	private float phase;
+
 	/**
 	 * Represents a frame within the texture atlas. Effectively a pair structure, linking the frame's order number
 	 * (within the particular animation) to the actual texture region object.
@@ -67,7 +76,6 @@ public class AnimationManager {
 	 * NOTE: Entity's direction and action MUST be set BEFORE calling this constructor.
 	 *
 	 * @TODO make this entire constructor cleaner - really messy right now
-	 * @TODO stop loading from file every time a new AnimationManager is constructed (ie. when an entity is constructed)
 	 *
 	 * @param type The type of animation sequence it is (see this class' constants)
 	 * @param entity The Entity that this Animation is rendering for
@@ -75,18 +83,18 @@ public class AnimationManager {
 	 */
 	public AnimationManager(int type, Entity entity, ResourceInfo info) {
 		this.entity = entity;
+		this.info = info;
 		this.lastAction = entity.getAction();
-		this.prefix = lastAction.getPrefix() + entity.getDirection().getChar();
+		this.lastDir = entity.getDirection();
 
 		this.stateTime = 0;
-		this.animations = new HashMap<String, Animation>();
+		this.animations = new Animation[Action.values().length][Direction.values().length];
 
 		// initialise initial HashMap
 		HashMap<String, ArrayList<Frame>> loadedFrames = new HashMap<String, ArrayList<Frame>>();
 
-		// load animation
-		TextureAtlas atlas = new TextureAtlas(Gdx.files.internal(info.getLocation()));
-		for (AtlasRegion region : atlas.getRegions()) {
+		// load animation (atlases are shared between all entities of the same resource)
+		for (AtlasRegion region : AtlasManager.getRegions(info)) {
 			// initialise the Array within the HashMap with given key, if it hasn't already been initialised
 			int number = Integer.parseInt(region.name.replaceAll("[a-zA-Z]", "")); // number of frame (removed prefix)
 			Frame frame = new Frame(number, region);
@@ -145,6 +153,8 @@ public class AnimationManager {
 			actionPrefix = actionPrefix.substring(0, 1); // get first letter if prefix is 2 letters (2nd letter is dir)
 			action = Action.getByPrefix(actionPrefix);
 			if (action == null) action = Action.IDLE_MOVE; // u, d, l, r are IDLE_MOVE
+			// direction is the last letter: 2nd letter of action prefixes, or the only letter of IDLE_MOVE prefixes
+			Direction dir = Direction.getByChar(prefix.charAt(prefix.length() - 1));
 			HashMap<Action, Float> frameRates = info.getFrameRates();
 			if (!frameRates.containsKey(action)) {
 				throw new RuntimeException("frameRates for " + info.toString() + " doesn't contain action " + action);
@@ -174,13 +184,32 @@ public class AnimationManager {
 			if (prefix.startsWith(Action.EXPIRING.getPrefix()) || prefix.equals(Action.INITIALISING.getPrefix())) {
 				anim.setPlayMode(Animation.PlayMode.NORMAL); // expire/init do not loop
 			}
-			animations.put(prefix, anim);
+			if (dir != null && (prefix.length() == 2 || action == Action.IDLE_MOVE)) {
+				animations[action.ordinal()][dir.ordinal()] = anim;
+			} // else: direction-less source frames of MULTI_DIR_CLONE, which have already been copied to each direction
+		}
+
+		// hacky fix: directions without their own animation use down's
+		Animation randAnim = null;
+		for (Animation[] dirAnims : animations) {
+			Animation down = dirAnims[Direction.DOWN.ordinal()];
+			for (int d = 0; d < dirAnims.length; d++) {
+				if (dirAnims[d] == null) {
+					dirAnims[d] = down;
+				}
+				if (randAnim == null) {
+					randAnim = dirAnims[d];
+				}
+			}
+		}
+		if (randAnim == null) {
+			throw new RuntimeException("no animations loaded for " + info.toString());
 		}
 
 		// set animation time - how long one cycle takes
 		// get any animation at from the anims list
-		Animation randAnim = animations.values().iterator().next(); // will throw exception here if empty animation,
 		this.animationTime = randAnim.getAnimationDuration();
+		this.current = animations[lastAction.ordinal()][lastDir.ordinal()];
 	}
 
 	/**
@@ -193,12 +222,20 @@ public class AnimationManager {
 	}
 
 	/**
-	 * Sets the stateTime to a given random value.
+	 * Makes the idle animation follow the resource's shared AnimationClock, offset by the given phase. While idling,
+	 * the current frame is then worked out from the shared clock, so update() doesn't need to be called. Other actions
+	 * still animate from stateTime.
 	 *
-	 * @param randomStateTime random state time
+	 * @param phase offset from the shared clock
 	 */
-	public void setRandomStateTime(float randomStateTime) {
-		stateTime = randomStateTime;
+	public void setSharedClock(float phase) {
+		Animation idle = animations[Action.IDLE_MOVE.ordinal()][Direction.DOWN.ordinal()];
+		if (idle == null) {
+			throw new RuntimeException("no idle animation to share for " + info.toString());
+		}
+		AnimationClock.register(info, idle.getAnimationDuration());
+		this.sharedClock = true;
+		this.phase = phase;
 	}
 
 	/**
@@ -207,8 +244,8 @@ public class AnimationManager {
 	 * @return completion status
 	 */
 	public boolean isComplete() {
-		if (prefix != null) {
-			return stateTime >= animations.get(prefix).getAnimationDuration();
+		if (current != null) {
+			return stateTime >= current.getAnimationDuration();
 		}
 		return false;
 	}
@@ -229,6 +266,7 @@ public class AnimationManager {
 	public void updateAction(Action action) {
 		if (lastAction != action) {
 			lastAction = action;
+			current = animations[action.ordinal()][lastDir.ordinal()];
 			stateTime = 0;
 		}
 	}
@@ -246,19 +284,18 @@ public class AnimationManager {
 	 * @return the relevant TextureRegion frame
 	 */
 	public TextureRegion getCurrentFrame(Direction dir) {
-		prefix = lastAction.getPrefix() + dir.getChar();
-		// hacky fix: if null, change to down
-		Animation anim = animations.get(prefix);
-		if (anim == null) {
-			prefix = lastAction.getPrefix() + Direction.DOWN.getChar();
+		if (dir != lastDir) {
+			lastDir = dir;
+			current = animations[lastAction.ordinal()][dir.ordinal()];
+		}
+		if (current == null) {
+			throw new RuntimeException("missing frame - entity = " + entity.toString() + ", action = " + lastAction +
+					", dir = " + dir);
 		}
-		try {
-			return animations.get(prefix).getKeyFrame(stateTime);
-		} catch (NullPointerException npe) {
-			System.err.println("entity = " + entity.toString() + ", prefix = " + prefix + ", animations.get(prefix) = " +
-					animations.get(prefix));
-			throw new RuntimeException("missing frame - see above line");
+		if (sharedClock && lastAction == Action.IDLE_MOVE) {
+			return current.getKeyFrame(AnimationClock.getTime(info) + phase);
 		}
+		return current.getKeyFrame(stateTime);
 	}
 
 	public void update(float delta) {
@@ -46,6 +46,7 @@ public class Collectable implements Entity {
 
 		// getDirection() always returns down
 		this.animation = new AnimationManager(AnimationManager.UNI_DIR, this, info);
+		this.animation.setSharedClock(0); // always idling, so never needs its animation updated
 
 		this.spawning = false;
 		this.alpha = 0;
@@ -59,6 +60,15 @@ public class Collectable implements Entity {
 		alpha = 0;
 	}
 
+	/**
+	 * Returns whether this collectable is still spawning in. Only spawning collectables need to be updated.
+	 *
+	 * @return spawning status
+	 */
+	public boolean isSpawning() {
+		return spawning;
+	}
+
 	@Override
 	public int getId() {
 		return id;
@@ -107,8 +117,6 @@ public class Collectable implements Entity {
 
 	@Override
 	public void update(float delta, boolean paused, List<Rectangle> rects, List<RectangleBoundedPolygon> polys) {
-		animation.update(delta);
-
 		if (spawning) { // update spawning alpha and status
 			alpha += delta * FADE_IN_SPEED;
 			if (alpha >= 1.0F) {
@@ -0,0 +1,174 @@
+package com.arctite.dontfreeze.entities;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps a list of Entities ordered by descending y-coordinate (ie. the order they should be rendered in, back to
+ * front).
+ *
+ * Entities only move a few pixels between frames, so the list is almost always close to sorted already. sort() does an
+ * insertion sort over a parallel array of primitive y keys, which is O(n) in that case and allocates nothing. Adding and
+ * removing is done in place, keeping the order intact.
+ */
+public class DepthOrder<T extends Entity> {
+
+	/** Starting capacity of the arrays (doubled whenever exceeded) */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** Entities in render order, indices [0, size) are occupied */
+	private Object[] entities;
+	/** The y-coordinate of each entity, as of the last sort() or add() */
+	private float[] keys;
+	private int size;
+
+	/**
+	 * Creates a new empty DepthOrder.
+	 */
+	public DepthOrder() {
+		this.entities = new Object[INITIAL_CAPACITY];
+		this.keys = new float[INITIAL_CAPACITY];
+	}
+
+	/**
+	 * Gets the number of entities in this ordering.
+	 *
+	 * @return number of entities
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the entity at the given position in render order.
+	 *
+	 * @param index position, in [0, size())
+	 * @return the entity
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		return (T) entities[index];
+	}
+
+	/**
+	 * Finds the first entity in render order whose y-coordinate (as of the last sort() or add()) is at most the given y,
+	 * by binary search, eg. to skip the entities above the top of the screen.
+	 *
+	 * @param y the y-coordinate
+	 * @return index of that entity, or size() if every entity is above y
+	 */
+	public int firstAtOrBelow(float y) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid] > y) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Inserts the given entity at its correct position, based on its current y-coordinate. Entities with equal y are
+	 * placed after the ones already present.
+	 *
+	 * @param entity the entity to add
+	 */
+	public void add(T entity) {
+		if (size == entities.length) {
+			entities = Arrays.copyOf(entities, size * 2);
+			keys = Arrays.copyOf(keys, size * 2);
+		}
+		float y = entity.getY();
+		int i = size;
+		while (i > 0 && keys[i - 1] < y) {
+			entities[i] = entities[i - 1];
+			keys[i] = keys[i - 1];
+			i--;
+		}
+		entities[i] = entity;
+		keys[i] = y;
+		size++;
+	}
+
+	/**
+	 * Removes the given entity, shifting the entities after it down one place.
+	 *
+	 * @param entity the entity to remove
+	 * @return whether the entity was present
+	 */
+	public boolean remove(T entity) {
+		for (int i = 0; i < size; i++) {
+			if (entities[i] == entity) {
+				size--;
+				System.arraycopy(entities, i + 1, entities, i, size - i);
+				System.arraycopy(keys, i + 1, keys, i, size - i);
+				entities[size] = null;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Removes all of the given entities in a single pass, keeping the order of the remaining entities. Preferable to
+	 * calling remove() repeatedly when more than one entity is leaving at once.
+	 *
+	 * @param removed the entities to remove
+	 */
+	public void removeAll(List<? extends Entity> removed) {
+		int numRemoved = removed.size();
+		if (numRemoved == 0) {
+			return;
+		}
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			Object e = entities[i];
+			boolean remove = false;
+			for (int j = 0; j < numRemoved; j++) {
+				if (removed.get(j) == e) {
+					remove = true;
+					break;
+				}
+			}
+			if (!remove) {
+				entities[kept] = e;
+				keys[kept] = keys[i];
+				kept++;
+			}
+		}
+		for (int i = kept; i < size; i++) {
+			entities[i] = null;
+		}
+		size = kept;
+	}
+
+	/**
+	 * Refreshes every entity's y key and restores descending y order using an insertion sort. Stable, so entities with
+	 * equal y keep their relative order and don't flicker.
+	 */
+	@SuppressWarnings("unchecked")
+	public void sort() {
+		for (int i = 0; i < size; i++) {
+			keys[i] = ((T) entities[i]).getY();
+		}
+		for (int i = 1; i < size; i++) {
+			float y = keys[i];
+			if (keys[i - 1] >= y) {
+				continue; // already in place, the usual case
+			}
+			Object e = entities[i];
+			int j = i;
+			while (j > 0 && keys[j - 1] < y) {
+				entities[j] = entities[j - 1];
+				keys[j] = keys[j - 1];
+				j--;
+			}
+			entities[j] = e;
+			keys[j] = y;
+		}
+	}
+}
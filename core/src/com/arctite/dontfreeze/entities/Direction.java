@@ -2,6 +2,8 @@ package com.arctite.dontfreeze.entities;
 
 import com.arctite.dontfreeze.entities.player.Key;
 
+import java.util.EnumMap;
+
 /**
  * Enumeration of Directions that the Player can be facing. Linked to the corresponding Keys responsible for the
  * directions.
@@ -16,6 +18,24 @@ public enum Direction {
 	DOWN('d', 3, Key.DOWN),
 	;
 
+	/** Lookup tables, by index, character and key */
+	private static final Direction[] BY_INDEX;
+	private static final Direction[] BY_CHAR = new Direction[128];
+	private static final EnumMap<Key, Direction> BY_KEY = new EnumMap<Key, Direction>(Key.class);
+
+	static {
+		int maxIdx = 0;
+		for (Direction d : values()) {
+			maxIdx = Math.max(maxIdx, d.idx);
+		}
+		BY_INDEX = new Direction[maxIdx + 1];
+		for (Direction d : values()) {
+			BY_INDEX[d.idx] = d;
+			BY_CHAR[d.chr] = d;
+			BY_KEY.put(d.key, d);
+		}
+	}
+
 	private char chr;
 	private int idx;
 	private Key key;
@@ -47,10 +67,7 @@ public enum Direction {
 	 * @return The corresponding direction, or null if none were found
 	 */
 	public static Direction getByChar(char c) {
-		for (Direction d : values()) {
-			if (d.chr == c) return d;
-		}
-		return null;
+		return (c < BY_CHAR.length) ? BY_CHAR[c] : null;
 	}
 
 	/**
@@ -60,12 +77,7 @@ public enum Direction {
 	 * @return The corresponding direction, or null if none were found
 	 */
 	public static Direction getByKey(Key k) {
-		for (Direction dir : values()) {
-			if (dir.key == k) {
-				return dir;
-			}
-		}
-		return null;
+		return (k == null) ? null : BY_KEY.get(k);
 	}
 
 	/**
@@ -75,12 +87,7 @@ public enum Direction {
 	 * @return The corresponding direction, or null if none were found
 	 */
 	public static Direction getByIndex(int i) {
-		for (Direction dir : values()) {
-			if (dir.idx == i) {
-				return dir;
-			}
-		}
-		return null;
+		return (i >= 0 && i < BY_INDEX.length) ? BY_INDEX[i] : null;
 	}
 
 	/**
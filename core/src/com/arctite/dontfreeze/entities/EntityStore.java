@@ -0,0 +1,224 @@
+package com.arctite.dontfreeze.entities;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Dense, index-based storage for one kind of Entity in the game world (eg. active monsters, spawnable collectables).
+ *
+ * Entities are kept contiguously in [0, size()) so that per-step loops are plain array iterations. Removal is O(1) by
+ * swapping the last entity into the removed slot, which means dense indices are NOT stable - iterate backwards when
+ * removing mid-loop. Each entity is also given a handle which stays the same for as long as it is in this store.
+ *
+ * The name-to-handle map is only meant for load, save and event time, never for the per-step loops.
+ */
+public class EntityStore<T extends Entity> {
+
+	/** Starting capacity of the dense arrays (doubled whenever exceeded) */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** Dense arrays, indices [0, size) are occupied */
+	private Object[] items;
+	private String[] names;
+	private int[] handles;
+	private int size;
+
+	/** Dense index of each handle, or -1 if that handle is not in use */
+	private int[] indices;
+	/** Stack of released handles for reuse */
+	private int[] freeHandles;
+	private int numFree;
+	/** Next never-before-used handle */
+	private int nextHandle;
+
+	/** Name to handle lookup, for load/save/event time only */
+	private HashMap<String, Integer> handlesByName;
+
+	/**
+	 * Creates a new empty EntityStore.
+	 */
+	public EntityStore() {
+		this.items = new Object[INITIAL_CAPACITY];
+		this.names = new String[INITIAL_CAPACITY];
+		this.handles = new int[INITIAL_CAPACITY];
+		this.indices = new int[INITIAL_CAPACITY];
+		this.freeHandles = new int[INITIAL_CAPACITY];
+		this.handlesByName = new HashMap<String, Integer>();
+	}
+
+	/**
+	 * Adds the given entity to this store under the given name. If the name is already in use, the name will refer to
+	 * the newly added entity from now on (both entities remain in the store).
+	 *
+	 * @param name the unique name of the entity, as defined in the Tiled map
+	 * @param entity the entity to add
+	 * @return the handle of the newly added entity
+	 */
+	public int add(String name, T entity) {
+		if (size == items.length) {
+			int capacity = size * 2;
+			items = Arrays.copyOf(items, capacity);
+			names = Arrays.copyOf(names, capacity);
+			handles = Arrays.copyOf(handles, capacity);
+		}
+		int handle;
+		if (numFree > 0) {
+			handle = freeHandles[--numFree];
+		} else {
+			handle = nextHandle++;
+			if (handle == indices.length) {
+				indices = Arrays.copyOf(indices, handle * 2);
+				freeHandles = Arrays.copyOf(freeHandles, handle * 2);
+			}
+		}
+		items[size] = entity;
+		names[size] = name;
+		handles[size] = handle;
+		indices[handle] = size;
+		size++;
+		handlesByName.put(name, handle);
+		return handle;
+	}
+
+	/**
+	 * Gets the number of entities currently in this store.
+	 *
+	 * @return number of entities
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets the entity at the given dense index.
+	 *
+	 * @param index dense index, in [0, size())
+	 * @return the entity
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		return (T) items[index];
+	}
+
+	/**
+	 * Gets the name of the entity at the given dense index.
+	 *
+	 * @param index dense index, in [0, size())
+	 * @return the entity's name
+	 */
+	public String getName(int index) {
+		return names[index];
+	}
+
+	/**
+	 * Gets the handle of the entity at the given dense index.
+	 *
+	 * @param index dense index, in [0, size())
+	 * @return the entity's handle
+	 */
+	public int getHandle(int index) {
+		return handles[index];
+	}
+
+	/**
+	 * Looks up the handle of the entity with the given name.
+	 *
+	 * @param name the entity name
+	 * @return the handle, or -1 if no entity with that name is in this store
+	 */
+	public int getHandle(String name) {
+		Integer handle = handlesByName.get(name);
+		if (handle == null) {
+			return -1;
+		}
+		return handle;
+	}
+
+	/**
+	 * Gets the entity with the given handle.
+	 *
+	 * @param handle the entity handle
+	 * @return the entity, or null if the handle is not in use
+	 */
+	@SuppressWarnings("unchecked")
+	public T getByHandle(int handle) {
+		if (handle < 0 || handle >= nextHandle || indices[handle] < 0) {
+			return null;
+		}
+		return (T) items[indices[handle]];
+	}
+
+	/**
+	 * Gets the entity with the given name.
+	 *
+	 * @param name the entity name
+	 * @return the entity, or null if no entity with that name is in this store
+	 */
+	public T get(String name) {
+		return getByHandle(getHandle(name));
+	}
+
+	/**
+	 * Checks whether an entity with the given name is in this store.
+	 *
+	 * @param name the entity name
+	 * @return whether the name is in use
+	 */
+	public boolean contains(String name) {
+		return handlesByName.containsKey(name);
+	}
+
+	/**
+	 * Removes the entity at the given dense index, by moving the last entity into its slot.
+	 *
+	 * @param index dense index, in [0, size())
+	 * @return the removed entity
+	 */
+	@SuppressWarnings("unchecked")
+	public T removeIndex(int index) {
+		T removed = (T) items[index];
+		int handle = handles[index];
+		String name = names[index];
+		// only drop the name mapping if it still refers to this entity
+		Integer mapped = handlesByName.get(name);
+		if (mapped != null && mapped == handle) {
+			handlesByName.remove(name);
+		}
+		indices[handle] = -1;
+		freeHandles[numFree++] = handle;
+
+		int last = --size;
+		if (index != last) {
+			items[index] = items[last];
+			names[index] = names[last];
+			handles[index] = handles[last];
+			indices[handles[index]] = index;
+		}
+		items[last] = null;
+		names[last] = null;
+		return removed;
+	}
+
+	/**
+	 * Removes the entity with the given handle.
+	 *
+	 * @param handle the entity handle
+	 * @return the removed entity, or null if the handle was not in use
+	 */
+	public T removeHandle(int handle) {
+		if (handle < 0 || handle >= nextHandle || indices[handle] < 0) {
+			return null;
+		}
+		return removeIndex(indices[handle]);
+	}
+
+	/**
+	 * Removes the entity with the given name.
+	 *
+	 * @param name the entity name
+	 * @return the removed entity, or null if no entity with that name was in this store
+	 */
+	public T remove(String name) {
+		return removeHandle(getHandle(name));
+	}
+}
@@ -24,6 +24,22 @@ import static com.arctite.dontfreeze.util.SaveManager.*;
  */
 public class Monster implements LiveEntity {
 
+	/**
+	 * Simulation level of detail. Monsters that the player can't see or interact with don't need to be updated at the
+	 * full step rate.
+	 */
+	public enum SimLevel {
+		/** Updated every step */
+		FULL,
+		/** Updated once every REDUCED_STEPS steps with the accumulated time, so movement is coarser */
+		REDUCED,
+		/** Not updated at all, time spent frozen is fast-forwarded when woken up */
+		FROZEN
+	}
+
+	/** Number of steps accumulated between updates for REDUCED monsters */
+	private static final int REDUCED_STEPS = 8;
+
 	/** Timing values for monster random movement */
 	private static final float MIN_RAND_TIME = 1.0F;
 	private static final float MAX_RAND_TIME = 4.0F;
@@ -93,6 +109,11 @@ public class Monster implements LiveEntity {
 	/** Game mechanic related fields */
 	private HealthBar healthBar;
 
+	/** Simulation level of detail, and time accumulated but not yet simulated under that level */
+	private SimLevel simLevel;
+	private float pendingTime;
+	private int pendingSteps;
+
 	/**
 	 * Constructs a new Monster with the given position. The animation state of the m
 	 *
@@ -123,10 +144,9 @@ public class Monster implements LiveEntity {
 
 		// create animation manager
 		this.animations = new AnimationManager(AnimationManager.MULTI_DIR, this, info);
-		// generate random state time so monsters are not all in sync animation-frame wise
+		// idle off the shared clock, with a random phase so monsters are not all in sync animation-frame wise
 		float animationTime = animations.getAnimationTime(); // find time it takes for one loop
-		float randomStateTime = random.nextFloat() * animationTime;
-		animations.setRandomStateTime(randomStateTime);
+		animations.setSharedClock(random.nextFloat() * animationTime);
 
 		this.moving = false;
 		this.timeRemaining = 0;
@@ -158,6 +178,10 @@ public class Monster implements LiveEntity {
 		}
 		this.healthBar = new HealthBar(this, x, y, width, 5, maxHealth, maxHealth);
 		healthBar.setVisible(false); // invisible to begin with
+
+		this.simLevel = SimLevel.FULL;
+		this.pendingTime = 0;
+		this.pendingSteps = 0;
 	}
 
 	@Override
@@ -206,6 +230,26 @@ public class Monster implements LiveEntity {
 		saver.setDataValue(chunkId + MONSTER+ name + AGGRO, aggressive);
 	}
 
+	/**
+	 * Saves the same fields as save() would for a monster that hasn't been created yet, ie. as it would be straight
+	 * after construction.
+	 *
+	 * @param chunkId the chunk id of the map this monster is in
+	 * @param spawn the monster's descriptor
+	 */
+	public static void saveUnspawned(String chunkId, SpawnDescriptor spawn) {
+		SaveManager saver = SaveManager.getSaveManager();
+		String name = spawn.getName();
+		ResourceInfo info = ResourceInfo.getByTypeAndId(ResourceInfo.Type.ENTITY, spawn.getId());
+
+		saver.setDataValue(chunkId + MONSTER + name + POSITION_X, spawn.getX());
+		saver.setDataValue(chunkId + MONSTER + name + POSITION_Y, spawn.getY());
+		saver.setDataValue(chunkId + MONSTER + name + HEALTH, info.getMaxHealth());
+		saver.setDataValue(chunkId + MONSTER + name + DIR_IDX, Direction.LEFT.getIdx()); // as set by the constructor
+
+		saver.setDataValue(chunkId + MONSTER+ name + AGGRO, false);
+	}
+
 	/**
 	 * Gets the health bar UI object of this monster. The health bar is also linked to the World's stage.
 	 *
@@ -258,11 +302,10 @@ public class Monster implements LiveEntity {
 	 * If the distance is small enough, the monster aggros.
 	 * On the contrary, the player is sufficiently far away, this monster will drop aggro (if aggro'd).
 	 *
-	 * @param player the player object
+	 * @param px player x, in this monster's world's coordinates
+	 * @param py player y, in this monster's world's coordinates
 	 */
-	public void updateAggressive(Player player) {
-		float px = player.getX();
-		float py = player.getY();
+	public void updateAggressive(float px, float py) {
 		double dist = Math.sqrt(Math.pow(px - x, 2) + Math.pow(py - y, 2));
 		if (aggressive && dist >= AGGRO_DROP_DISTANCE) {
 			setAggressive(false);
@@ -354,7 +397,7 @@ public class Monster implements LiveEntity {
 
 		lastSpecialTime = 0; // reset flag
 		lastAttackTime = 0;
-		SoundManager.playSound(SoundManager.SoundInfo.MONSTER_SPECIAL);
+		SoundManager.playSound(SoundManager.SoundInfo.MONSTER_SPECIAL, x + width / 2, y + height / 2);
 	}
 
 	/**
@@ -386,6 +429,15 @@ public class Monster implements LiveEntity {
 		return height;
 	}
 
+	/**
+	 * Gets the movement speed of this monster.
+	 *
+	 * @return speed in pixels per second
+	 */
+	public int getSpeed() {
+		return speed;
+	}
+
 	@Override
 	public Direction getDirection() {
 		return dir;
@@ -514,7 +566,7 @@ public class Monster implements LiveEntity {
 			if (id == ResourceInfo.ICE_ELEMENTAL.getId()) dir = Direction.DOWN;
 			setAction(Action.EXPIRING);
 			setAggressive(false); // de-aggro upon death
-			SoundManager.playSound(SoundManager.SoundInfo.MONSTER_DEATH);
+			SoundManager.playSound(SoundManager.SoundInfo.MONSTER_DEATH, x + width / 2, y + height / 2);
 		} else if (action == Action.KNOCKBACK) { // update the knockback
 			if (animations.isComplete()) {
 				setAction(Action.IDLE_MOVE);
@@ -532,12 +584,12 @@ public class Monster implements LiveEntity {
 		} else if (action == Action.IDLE_MOVE && !paused) { // update movement if not paused
 			// @TODO make the monster less stupid and not get stuck behind obstacles - pathfinding algorithm
 			if (aggressive) { // aggressive and can attack
-				// calculate player and this monster's centre positions
+				// calculate player and this monster's centre positions (the player may be in a neighbouring chunk)
 				Player player = world.getPlayer();
 				int pw = player.getWidth();
 				int ph = player.getHeight();
-				float pcx = player.getX() + (pw / 2);
-				float pcy = player.getY() + (ph / 2);
+				float pcx = world.getPlayerX() + (pw / 2);
+				float pcy = world.getPlayerY() + (ph / 2);
 				float cx = x + (width / 2);
 				float cy = y + (height / 2);
 				// calculate differences
@@ -621,6 +673,89 @@ public class Monster implements LiveEntity {
 		// otherwise, action is probably expiring, or game is paused, in which case we do nothing
 	}
 
+	/**
+	 * Updates this Monster at the given simulation level of detail. The world calls this instead of update() directly.
+	 *
+	 * When the level changes, any time accumulated under the previous level is caught up on first, so that switching
+	 * levels never loses or repeats time.
+	 *
+	 * @param level simulation level to update at
+	 * @param delta time passed this step
+	 * @param paused whether or not the game is currently paused
+	 * @param rects list of Rectangle objects to check for collision against
+	 * @param polys list of RectangleBoundedPolygon objects to check for collision against
+	 */
+	public void update(SimLevel level, float delta, boolean paused, List<Rectangle> rects,
+					   List<RectangleBoundedPolygon> polys) {
+		if (level != simLevel) {
+			catchUp(rects, polys);
+			simLevel = level;
+		}
+		switch (level) {
+			case FULL:
+				update(delta, paused, rects, polys);
+				break;
+			case REDUCED:
+				if (!paused) {
+					pendingTime += delta;
+					pendingSteps++;
+					if (pendingSteps >= REDUCED_STEPS) {
+						update(pendingTime, false, rects, polys);
+						pendingTime = 0;
+						pendingSteps = 0;
+					}
+				}
+				break;
+			case FROZEN:
+				if (!paused) {
+					pendingTime += delta;
+				}
+				break;
+		}
+	}
+
+	/**
+	 * Simulates any time that has been accumulated but not yet simulated at the current level of detail. Must be called
+	 * before saving, so that the saved state doesn't depend on how far through a REDUCED interval the monster was.
+	 *
+	 * @param rects list of Rectangle objects to check for collision against
+	 * @param polys list of RectangleBoundedPolygon objects to check for collision against
+	 */
+	public void catchUp(List<Rectangle> rects, List<RectangleBoundedPolygon> polys) {
+		if (pendingTime > 0) {
+			if (simLevel == SimLevel.REDUCED) {
+				update(pendingTime, false, rects, polys);
+			} else if (simLevel == SimLevel.FROZEN) {
+				fastForward(pendingTime);
+			}
+		}
+		pendingTime = 0;
+		pendingSteps = 0;
+	}
+
+	/**
+	 * Fast-forwards the timers of this (frozen) Monster by the given time, without moving it. Random movement decisions
+	 * that would have been made in that time are made now, so it doesn't wake up in the same state it was frozen in.
+	 *
+	 * @param time time spent frozen
+	 */
+	private void fastForward(float time) {
+		animations.update(time);
+		meleeTime += time;
+		lastMeleeTime += time;
+		lastSpecialTime += time;
+		lastAttackTime += time;
+		timeRemaining -= time;
+		while (timeRemaining <= 0) {
+			timeRemaining += random.nextFloat() * (MAX_RAND_TIME - MIN_RAND_TIME) + MIN_RAND_TIME;
+			moving = !moving; // flip moving
+			if (moving) {
+				int dirIndex = random.nextInt(Direction.values().length);
+				dir = Direction.getByIndex(dirIndex);
+			}
+		}
+	}
+
 	/**
 	 * Starts or continues a random movement. This method is called (instead of update()) when this Monster is merely a
 	 * decoration on the MenuScreen, as opposed to an active monster within the game world.
@@ -688,7 +823,7 @@ public class Monster implements LiveEntity {
 		ArrayList<Rectangle> collideRects = Collisions.collidesWithRects(collisionBounds, rects);
 		ArrayList<RectangleBoundedPolygon> collidePolys = Collisions.collidesWithPolys(collisionBounds, polys);
 		boolean collision = (collideRects.size() + collidePolys.size()) > 0;
-		boolean inBounds = (x >= 0) && (y >= 0) && (x + width <= world.getWidth()) && (y + height <= world.getHeight());
+		boolean inBounds = world.isWithinBounds(x, y, width, height); // may be over the border, if streamed
 		if (collision || !inBounds) {
 			// if there is a collision, we undo coordinate change and set moving to false
 			// the leftover seconds on timeRemaining will be spent idling
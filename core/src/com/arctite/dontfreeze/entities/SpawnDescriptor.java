@@ -0,0 +1,45 @@
+package com.arctite.dontfreeze.entities;
+
+/**
+ * What's needed to create a monster or collectable placed on the Tiled map: its name, id and starting position. The
+ * world keeps these instead of the entities themselves until the entities are actually needed, since many are never
+ * spawned, or are already dead or collected according to the save.
+ */
+public class SpawnDescriptor {
+
+	private final String name;
+	private final int id;
+	private final float x;
+	private final float y;
+
+	/**
+	 * Creates a SpawnDescriptor.
+	 *
+	 * @param name the unique name of the entity, as defined in the Tiled map
+	 * @param id the entity's resource id
+	 * @param x starting coordinate x value
+	 * @param y starting coordinate y value
+	 */
+	public SpawnDescriptor(String name, int id, float x, float y) {
+		this.name = name;
+		this.id = id;
+		this.x = x;
+		this.y = y;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public float getX() {
+		return x;
+	}
+
+	public float getY() {
+		return y;
+	}
+}
@@ -577,7 +577,9 @@ public class Player implements LiveEntity {
 			int chunkX = world.getChunkX();
 			int chunkY = world.getChunkY();
 			// lastRenderedDir is used so that the screen displays the player facing the correct dir before map change
-			if (x < 0) {
+			if (world.isStreaming()) {
+				checkStreamedBorders(chunkX, chunkY);
+			} else if (x < 0) {
 				if (chunkX == WorldScreen.LEFTMOST_CHUNK_X || dir != Direction.LEFT) {
 					x = 0;
 					dir = Direction.LEFT;
@@ -613,12 +615,43 @@ public class Player implements LiveEntity {
 		}
 	}
 
+	/**
+	 * Border checks for when the world is streaming chunks. The player walks straight over borders into the
+	 * neighbouring chunk, and the world changes chunks once the player's centre is WorldScreen.STREAM_MARGIN past the
+	 * border. The edges of the world still block the player.
+	 *
+	 * @param chunkX x coordinate of the world's chunk
+	 * @param chunkY y coordinate of the world's chunk
+	 */
+	private void checkStreamedBorders(int chunkX, int chunkY) {
+		if (x < 0 && chunkX == WorldScreen.LEFTMOST_CHUNK_X) {
+			x = 0;
+		} else if (x > RIGHTMOST_X && chunkX == WorldScreen.RIGHTMOST_CHUNK_X) {
+			x = RIGHTMOST_X;
+		}
+		if (y < 0 && chunkY == WorldScreen.LOWEST_CHUNK_Y) {
+			y = 0;
+		} else if (y > HIGHEST_Y && chunkY == WorldScreen.HIGHEST_CHUNK_Y) {
+			y = HIGHEST_Y;
+		}
+		float centreX = x + (width / 2F);
+		float centreY = y + (height / 2F);
+		if (centreX < -WorldScreen.STREAM_MARGIN) {
+			world.changeMap(Direction.LEFT);
+		} else if (centreX >= WorldScreen.CHUNK_WIDTH + WorldScreen.STREAM_MARGIN) {
+			world.changeMap(Direction.RIGHT);
+		} else if (centreY < -WorldScreen.STREAM_MARGIN) {
+			world.changeMap(Direction.DOWN);
+		} else if (centreY >= WorldScreen.CHUNK_HEIGHT + WorldScreen.STREAM_MARGIN) {
+			world.changeMap(Direction.UP);
+		}
+	}
+
 	/**
 	 * Shorthand for changing maps. Called from updateMovement() (see above)
 	 */
 	private void changeMap() {
-		world.getGame().setWorldChangeMapDirection(dir);
-		world.setTransitioning(false, GameMain.ChangeType.WORLD_CHANGE_MAP);
+		world.changeMap(dir);
 	}
 
 	@Override
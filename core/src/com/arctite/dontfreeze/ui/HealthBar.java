@@ -3,6 +3,7 @@ package com.arctite.dontfreeze.ui;
 import com.arctite.dontfreeze.entities.LiveEntity;
 import com.arctite.dontfreeze.entities.Monster;
 import com.arctite.dontfreeze.entities.player.Player;
+import com.arctite.dontfreeze.util.ResourceManager;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
@@ -10,15 +11,16 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Interpolation;
-import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.scenes.scene2d.utils.SpriteDrawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 
+import java.util.HashMap;
+
 /**
  * Player health bar UI element.
  *
@@ -26,15 +28,16 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
  */
 public class HealthBar extends Group {
 
-	/** ShapeRenderer that will render outline for the player health bar */
-	private static ShapeRenderer playerSrend;
-	/** ShapeRenderer that will render outline for monster health bars */
-	private static ShapeRenderer monsterSrend;
+	/** Health colour */
+	private static final Color ORANGE = new Color(1.0F, 153F / 255, 51F / 255, 1);
+
+	/** Single white pixel that all health bars are drawn from, tinted as needed, so they batch together */
+	private static TextureRegion pixel;
+	/** Progress bar styles shared between all health bars, by bar height */
+	private static HashMap<Integer, ProgressBar.ProgressBarStyle> styles;
 
 	/** Progress Bar object that this class wraps around */
 	private ProgressBar progressBar;
-	/** Rectangle that defines the outline of this bar */
-	private Rectangle outline;
 	/** Label containing the text inside this health bar */
 	private Label label;
 	/** Entity that this health bar is a part of */
@@ -46,20 +49,59 @@ public class HealthBar extends Group {
 	private float y;
 	private int width;
 	private int height;
+	/** Offset of a monster's chunk from the chunk being shown, for monsters of streamed neighbours */
+	private float offsetX;
+	private float offsetY;
 
 	/** Maximum possible health of this health bar */
 	private int maxHealth;
 	/** Current health value */
 	private int health;
+	/** Whether this health bar is currently out of view, in which case it is neither acted nor drawn */
+	private boolean culled;
 
 	/**
-	 * Initialise shape renderers in static block
+	 * Initialise shared pixel texture in static block
 	 */
 	static {
-		playerSrend = new ShapeRenderer();
-		playerSrend.setColor(Color.BLACK);
-		monsterSrend = new ShapeRenderer();
-		monsterSrend.setColor(Color.BLACK);
+		Pixmap white = new Pixmap(1, 1, Pixmap.Format.RGB888);
+		white.setColor(Color.WHITE);
+		white.fill();
+		pixel = new TextureRegion(ResourceManager.acquire(HealthBar.class, new Texture(white)));
+		white.dispose();
+		styles = new HashMap<Integer, ProgressBar.ProgressBarStyle>();
+	}
+
+	/**
+	 * Gets the shared progress bar style for health bars of the given height, creating it if this is the first bar with
+	 * that height.
+	 *
+	 * @param height height of the bar
+	 * @return the shared style
+	 */
+	private static ProgressBar.ProgressBarStyle getStyle(int height) {
+		ProgressBar.ProgressBarStyle style = styles.get(height);
+		if (style == null) {
+			style = new ProgressBar.ProgressBarStyle();
+			Drawable orangeDraw = createDrawable(ORANGE, height);
+			Drawable whiteDraw = createDrawable(Color.WHITE, height);
+			style.knobBefore = orangeDraw;
+			style.knob = whiteDraw; // so that when hp = 0, no orange at all
+			style.knobAfter = whiteDraw;
+			style.background = createDrawable(Color.BLACK, height);
+			styles.put(height, style);
+		}
+		return style;
+	}
+
+	/**
+	 * Creates a drawable of the shared pixel tinted with the given colour, with a minimum size of 1 x height.
+	 */
+	private static Drawable createDrawable(Color color, int height) {
+		SpriteDrawable drawable = new TextureRegionDrawable(pixel).tint(color);
+		drawable.setMinWidth(1);
+		drawable.setMinHeight(height);
+		return drawable;
 	}
 
 	/**
@@ -83,23 +125,7 @@ public class HealthBar extends Group {
 		this.maxHealth = maxHealth;
 		this.health = health;
 
-		ProgressBar.ProgressBarStyle style = new ProgressBar.ProgressBarStyle();
-		Pixmap white = new Pixmap(1, height, Pixmap.Format.RGB888); // outline
-		white.setColor(Color.WHITE);
-		white.fill();
-		Pixmap black = new Pixmap(1, height, Pixmap.Format.RGB888); // outline
-		black.setColor(Color.BLACK);
-		black.fill();
-		Pixmap orange = new Pixmap(1, height, Pixmap.Format.RGB888);
-		orange.setColor(1.0F, 153F / 255, 51F / 255, 1);
-		orange.fill();
-		Drawable orangeDraw = new TextureRegionDrawable(new TextureRegion(new Texture(orange)));
-		Drawable whiteDraw = new TextureRegionDrawable(new TextureRegion(new Texture(white)));
-		Drawable blackDraw = new TextureRegionDrawable(new TextureRegion(new Texture(black)));
-		style.knobBefore = orangeDraw;
-		style.knob = whiteDraw; // so that when hp = 0, no orange at all
-		style.knobAfter = whiteDraw;
-		style.background = blackDraw;
+		ProgressBar.ProgressBarStyle style = getStyle(height);
 
 		this.progressBar = new ProgressBar(0, maxHealth, 1, false, style) {
 			@Override
@@ -182,6 +208,26 @@ public class HealthBar extends Group {
 		return maxHealth;
 	}
 
+	/**
+	 * Sets whether this health bar is out of view. Culled health bars skip both act() and draw().
+	 *
+	 * @param culled whether this health bar is out of view
+	 */
+	public void setCulled(boolean culled) {
+		this.culled = culled;
+	}
+
+	/**
+	 * Sets the offset of the attached monster's chunk from the chunk being shown, for monsters of streamed neighbours.
+	 *
+	 * @param offsetX x offset of the monster's chunk
+	 * @param offsetY y offset of the monster's chunk
+	 */
+	public void setOffset(float offsetX, float offsetY) {
+		this.offsetX = offsetX;
+		this.offsetY = offsetY;
+	}
+
 	/**
 	 * Updates this player health bar with the given time passed
 	 *
@@ -189,6 +235,9 @@ public class HealthBar extends Group {
 	 */
 	@Override
 	public void act(float delta) {
+		if (culled) {
+			return;
+		}
 		// update health into the progress bar object
 		progressBar.setValue(health);
 
@@ -204,7 +253,7 @@ public class HealthBar extends Group {
 			boolean aggro = monster.isAggressive();
 			if (aggro) {
 				// update position
-				setPosition(monster.getX(), monster.getY() + (monster.getHeight() * 0.9F));
+				setPosition(monster.getX() + offsetX, monster.getY() + offsetY + (monster.getHeight() * 0.9F));
 			}
 		}
 
@@ -220,29 +269,28 @@ public class HealthBar extends Group {
 	 */
 	@Override
 	public void draw(Batch batch, float parentAlpha) {
+		if (culled) {
+			return;
+		}
 		// draw bar and text
 		super.draw(batch, parentAlpha);
 
-		// use appropriate shape renderer
-		ShapeRenderer srend;
-		if (isPlayer) {
-			srend = playerSrend;
-		} else {
-			srend = monsterSrend;
-			srend.setProjectionMatrix(entity.getWorld().getCamera().combined);
-		}
-		batch.end(); // need to end batch before using shaperenderer otherwise other actors in same stage get missed
-		// draw outline (will override edge pixels of the bar)
-		srend.begin(ShapeRenderer.ShapeType.Line);
-		// the 0.5 offset is to correct missing corner pixels
-		srend.rect(outline.x, outline.y, outline.width + 0.5F, outline.height + 0.5F);
-		srend.end();
-		batch.begin();
+		// draw outline (will override edge pixels of the bar) as four 1px lines, within the same batch
+		Color old = batch.getColor();
+		float r = old.r;
+		float g = old.g;
+		float b = old.b;
+		float a = old.a;
+		batch.setColor(0, 0, 0, a * parentAlpha);
+		batch.draw(pixel, x, y, width, 1); // bottom
+		batch.draw(pixel, x, y + height - 1, width, 1); // top
+		batch.draw(pixel, x, y + 1, 1, height - 2); // left
+		batch.draw(pixel, x + width - 1, y + 1, 1, height - 2); // right
+		batch.setColor(r, g, b, a);
 	}
 
 	@Override
 	public void setPosition(float x, float y){
-		outline = new Rectangle(x, y, width - 1, height - 1);
 		this.x = x;
 		this.y = y;
 		progressBar.setPosition(x, y);
@@ -1,5 +1,6 @@
 package com.arctite.dontfreeze.ui;
 
+import com.arctite.dontfreeze.util.ResourceManager;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
@@ -44,7 +45,7 @@ public class SkinManager {
 	 */
 	public static void loadSkins() {
 		skins = new HashMap<String, Skin>();
-		font = new BitmapFont();
+		font = ResourceManager.acquire(SkinManager.class, new BitmapFont());
 
 		// initialise menu button skin
 		Skin menuButtonSkin = new Skin();
@@ -54,7 +55,8 @@ public class SkinManager {
 		Pixmap pixmap = new Pixmap(MENU_BUTTON_WIDTH, MENU_BUTTON_HEIGHT, Pixmap.Format.RGB888);
 		pixmap.setColor(Color.WHITE);
 		pixmap.fill();
-		menuButtonSkin.add(BACKGROUND, new Texture(pixmap));
+		menuButtonSkin.add(BACKGROUND, ResourceManager.acquire(SkinManager.class, new Texture(pixmap)));
+		pixmap.dispose();
 		// create button style
 		TextButton.TextButtonStyle style = new TextButton.TextButtonStyle();
 		style.up = menuButtonSkin.newDrawable(BACKGROUND, Color.GRAY);
@@ -72,7 +74,8 @@ public class SkinManager {
 		pixmap = new Pixmap(CONVO_WIDTH, CONVO_HEIGHT, Pixmap.Format.RGBA8888);
 		pixmap.setColor(Color.WHITE);
 		pixmap.fill();
-		convoSkin.add(BACKGROUND, new Texture(pixmap));
+		convoSkin.add(BACKGROUND, ResourceManager.acquire(SkinManager.class, new Texture(pixmap)));
+		pixmap.dispose();
 		// create button style
 		Label.LabelStyle convoStyle = new Label.LabelStyle();
 		convoStyle.background = convoSkin.newDrawable(BACKGROUND, CLC[0], CLC[1], CLC[2], CLC[3]);
@@ -0,0 +1,61 @@
+package com.arctite.dontfreeze.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+
+/**
+ * Static class through which all game assets should be opened, instead of Gdx.files.internal(). If the asset pack is
+ * present as a real file (ie. not only on the classpath), assets are served out of it, otherwise they're loose files.
+ * While developing, loose files changed since the pack was built can be used over the pack's copy instead (see
+ * PackFileHandleResolver).
+ */
+public class AssetFiles {
+
+	/** Location of the asset pack, built by the desktop AssetPackBuilder */
+	public static final String PACK_FILE = "assets.pack";
+
+	/** Resolver which always goes through AssetFiles, for asset loaders (eg. TmxMapLoader, AssetManager) */
+	public static final FileHandleResolver RESOLVER = new FileHandleResolver() {
+		@Override
+		public FileHandle resolve(String fileName) {
+			return internal(fileName);
+		}
+	};
+
+	/** Resolver in use, which serves loose files until the pack is opened */
+	private static FileHandleResolver resolver;
+
+	/**
+	 * Opens and maps the asset pack, if it's there. Should be called once when the game starts, before any assets are
+	 * loaded.
+	 *
+	 * @param checkLoose whether to use loose files edited since the pack was built (costs a file check per asset)
+	 * @return whether the pack was opened
+	 */
+	public static boolean openPack(boolean checkLoose) {
+		FileHandle handle = Gdx.files.internal(PACK_FILE);
+		File file = handle.file();
+		if (!file.isFile()) { // can only map real files
+			return false;
+		}
+		AssetPack pack = ResourceManager.acquire(AssetFiles.class, new AssetPack(file));
+		resolver = new PackFileHandleResolver(pack, checkLoose, file.lastModified());
+		return true;
+	}
+
+	/**
+	 * Gets a handle to the given asset.
+	 *
+	 * @param path path of the asset, relative to the assets directory
+	 * @return handle to the asset, in the pack if it's in there
+	 */
+	public static FileHandle internal(String path) {
+		if (resolver == null) {
+			return Gdx.files.internal(path);
+		}
+		return resolver.resolve(path);
+	}
+}
@@ -0,0 +1,182 @@
+package com.arctite.dontfreeze.util;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.HashSet;
+
+/**
+ * Read-only view of an asset pack: every asset file in one archive, which is opened and memory-mapped once, so loading
+ * an asset doesn't have to open and seek to a separate file. Assets are served as slices of the mapped buffer, without
+ * copying (see PackFileHandle).
+ *
+ * Pack format (big-endian), written by the desktop AssetPackBuilder:
+ * int MAGIC, int entry count, then for each entry: short path length, path (UTF-8, '/' separated, relative to the
+ * working directory), int offset of its data from the start of the pack, int length of its data. The data follows.
+ */
+public class AssetPack implements Disposable {
+
+	/** "DFP1" */
+	public static final int MAGIC = 0x44465031;
+	/** Path encoding */
+	public static final String CHARSET = "UTF-8";
+
+	/**
+	 * Location of an asset's data within the pack.
+	 */
+	private static class Entry {
+
+		private final int offset;
+		private final int length;
+
+		private Entry(int offset, int length) {
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+
+	private final RandomAccessFile raf;
+	private final ByteBuffer buffer;
+	/** Assets by path */
+	private final HashMap<String, Entry> entries;
+	/** Every directory that contains an asset, directly or not */
+	private final HashSet<String> directories;
+
+	/**
+	 * Opens and maps the given pack, and reads its index.
+	 *
+	 * @param file the pack file
+	 */
+	public AssetPack(File file) {
+		try {
+			this.raf = new RandomAccessFile(file, "r");
+			this.buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+		} catch (IOException e) {
+			throw new GdxRuntimeException("couldn't open asset pack " + file, e);
+		}
+		if (buffer.getInt() != MAGIC) {
+			throw new GdxRuntimeException(file + " is not an asset pack");
+		}
+		int count = buffer.getInt();
+		this.entries = new HashMap<String, Entry>(count * 2);
+		this.directories = new HashSet<String>();
+		for (int i = 0; i < count; i++) {
+			byte[] pathBytes = new byte[buffer.getShort() & 0xFFFF];
+			buffer.get(pathBytes);
+			String path;
+			try {
+				path = new String(pathBytes, CHARSET);
+			} catch (UnsupportedEncodingException e) {
+				throw new GdxRuntimeException(e);
+			}
+			entries.put(path, new Entry(buffer.getInt(), buffer.getInt()));
+			for (int slash = path.lastIndexOf('/'); slash > 0; slash = path.lastIndexOf('/', slash - 1)) {
+				directories.add(path.substring(0, slash));
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the given asset is in the pack.
+	 *
+	 * @param path normalised path of the asset
+	 * @return whether it's in the pack
+	 */
+	public boolean contains(String path) {
+		return entries.containsKey(path);
+	}
+
+	/**
+	 * Checks whether the given path is a directory containing any assets in the pack.
+	 *
+	 * @param path normalised path of the directory
+	 * @return whether it's a directory in the pack
+	 */
+	public boolean isDirectory(String path) {
+		return directories.contains(path);
+	}
+
+	/**
+	 * Gets the length of the given asset.
+	 *
+	 * @param path normalised path of the asset, which must be in the pack
+	 * @return length in bytes
+	 */
+	public int length(String path) {
+		return getEntry(path).length;
+	}
+
+	/**
+	 * Gets the data of the given asset, as a read-only slice of the mapped pack (no copying is done).
+	 *
+	 * @param path normalised path of the asset, which must be in the pack
+	 * @return new buffer positioned at the start of the asset's data
+	 */
+	public ByteBuffer slice(String path) {
+		Entry entry = getEntry(path);
+		ByteBuffer slice = buffer.duplicate(); // independent position and limit, same memory
+		slice.limit(entry.offset + entry.length);
+		slice.position(entry.offset);
+		return slice.slice().asReadOnlyBuffer();
+	}
+
+	private Entry getEntry(String path) {
+		Entry entry = entries.get(path);
+		if (entry == null) {
+			throw new GdxRuntimeException("asset not in pack: " + path);
+		}
+		return entry;
+	}
+
+	/**
+	 * Normalises a path for looking up in a pack: '/' separators, with no '.' or '..' parts, and no leading or trailing
+	 * separators.
+	 *
+	 * @param path the path
+	 * @return normalised path
+	 */
+	public static String normalise(String path) {
+		String[] parts = path.replace('\\', '/').split("/");
+		StringBuilder sb = new StringBuilder();
+		int[] ends = new int[parts.length]; // length of sb after each kept part, for going back up with '..'
+		int depth = 0;
+		for (String part : parts) {
+			if (part.length() == 0 || part.equals(".")) {
+				continue;
+			}
+			if (part.equals("..")) {
+				if (depth > 0) {
+					depth--;
+					sb.setLength(depth > 0 ? ends[depth - 1] : 0);
+				}
+				continue;
+			}
+			if (sb.length() > 0) {
+				sb.append('/');
+			}
+			sb.append(part);
+			ends[depth++] = sb.length();
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Closes the pack file. The mapping itself is released when it's garbage collected, so no slices may be used after
+	 * this.
+	 */
+	@Override
+	public void dispose() {
+		try {
+			raf.close();
+		} catch (IOException e) {
+			// nothing to do about it
+		}
+	}
+}
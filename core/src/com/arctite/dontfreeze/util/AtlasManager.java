@@ -0,0 +1,119 @@
+package com.arctite.dontfreeze.util;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.EnumMap;
+
+/**
+ * Static class which provides the animation frames of every ResourceInfo.
+ *
+ * If the packed atlas (built by the desktop EntityAtlasPacker) is present, all collectable, entity, projectile and
+ * animated obstacle frames come from its few large pages, so drawing a mixed scene rarely has to switch textures.
+ * Otherwise, falls back to loading each ResourceInfo's own atlas. Either way, each atlas is only loaded once.
+ */
+public class AtlasManager {
+
+	/** Location of the packed atlas, and the separator between resource and frame name in its region names */
+	public static final String PACKED_ATLAS = "assets/packed/entities.atlas";
+	public static final String SEPARATOR = "/";
+
+	/** Whether we've tried to load the packed atlas yet */
+	private static boolean initialised;
+	/** Packed atlas, or null if not present */
+	private static TextureAtlas packed;
+	/** Frames of each resource, with the resource prefix stripped from their names */
+	private static EnumMap<ResourceInfo, Array<AtlasRegion>> regions = new EnumMap<ResourceInfo, Array<AtlasRegion>>(
+			ResourceInfo.class);
+
+	/**
+	 * Gets the name prefix that the given resource's frames have within the packed atlas.
+	 *
+	 * @param info the resource
+	 * @return region name prefix
+	 */
+	public static String getPrefix(ResourceInfo info) {
+		return info.name().toLowerCase() + SEPARATOR;
+	}
+
+	/**
+	 * Gets all frames of the given resource. Region names are the same as in the resource's own atlas.
+	 *
+	 * @param info the resource
+	 * @return array of frames (shared, do not modify)
+	 */
+	public static Array<AtlasRegion> getRegions(ResourceInfo info) {
+		if (!initialised) {
+			loadPacked();
+		}
+		Array<AtlasRegion> infoRegions = regions.get(info);
+		if (infoRegions == null) {
+			// not in the packed atlas (or no packed atlas), load resource's own atlas
+			TextureAtlas atlas = ResourceManager.acquire(AtlasManager.class,
+					new TextureAtlas(AssetFiles.internal(info.getLocation())));
+			infoRegions = atlas.getRegions();
+			regions.put(info, infoRegions);
+		}
+		return infoRegions;
+	}
+
+	/**
+	 * Checks whether the packed atlas is present.
+	 *
+	 * @return whether there is a packed atlas
+	 */
+	public static boolean hasPacked() {
+		return AssetFiles.internal(PACKED_ATLAS).exists();
+	}
+
+	/**
+	 * Uses an already loaded atlas (eg. loaded at startup) as the packed atlas, or as the given resource's own atlas.
+	 *
+	 * @param info the resource whose own atlas this is, or null if it's the packed atlas
+	 * @param atlas the loaded atlas, now owned by AtlasManager
+	 */
+	public static void preload(ResourceInfo info, TextureAtlas atlas) {
+		ResourceManager.acquire(AtlasManager.class, atlas);
+		if (info == null) {
+			initialised = true;
+			usePacked(atlas);
+		} else {
+			regions.put(info, atlas.getRegions());
+		}
+	}
+
+	/**
+	 * Loads the packed atlas if it's present.
+	 */
+	private static void loadPacked() {
+		initialised = true;
+		FileHandle file = AssetFiles.internal(PACKED_ATLAS);
+		if (!file.exists()) {
+			return;
+		}
+		usePacked(ResourceManager.acquire(AtlasManager.class, new TextureAtlas(file)));
+	}
+
+	/**
+	 * Splits the packed atlas' regions up by resource.
+	 */
+	private static void usePacked(TextureAtlas atlas) {
+		packed = atlas;
+		for (ResourceInfo info : ResourceInfo.values()) {
+			String prefix = getPrefix(info);
+			Array<AtlasRegion> infoRegions = new Array<AtlasRegion>();
+			for (AtlasRegion region : packed.getRegions()) {
+				if (region.name.startsWith(prefix)) {
+					AtlasRegion copy = new AtlasRegion(region);
+					copy.name = region.name.substring(prefix.length());
+					infoRegions.add(copy);
+				}
+			}
+			if (infoRegions.size > 0) {
+				regions.put(info, infoRegions);
+			}
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.arctite.dontfreeze.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.nio.IntBuffer;
+
+/**
+ * Pre-composited copy of a map chunk's static layers (the background image, and any tile layers other than the sprite
+ * layer), split into FrameBuffer tiles no larger than the GPU allows. Each frame, only the tiles that intersect the
+ * camera need to be drawn, which is far cheaper than rendering the layers themselves.
+ *
+ * Optionally also keeps a downsampled copy of the whole chunk in one small texture, for drawing while the screen is
+ * fading in or out.
+ *
+ * Must be created and disposed on the GL thread, while the sprite batch is not drawing.
+ */
+public class BackgroundCache implements Disposable {
+
+	/** Largest tile size to use, even if the GPU supports larger */
+	private static final int MAX_TILE_SIZE = 1024;
+	/** Scale of the downsampled copy */
+	private static final int LOW_DETAIL_DIVISOR = 4;
+
+	/** Chunk size and tile size */
+	private int width;
+	private int height;
+	private int tileSize;
+	private int cols;
+	private int rows;
+
+	/** Full detail tiles, by (row * cols + col) */
+	private FrameBuffer[] buffers;
+	private TextureRegion[] tiles;
+	/** Downsampled copy of the whole chunk, null if not enabled */
+	private FrameBuffer lowBuffer;
+	private TextureRegion lowTile;
+
+	/**
+	 * Composites the static layers of the map being rendered by the given map renderer.
+	 *
+	 * @param mapRenderer renderer of the map chunk
+	 * @param batch the sprite batch to composite with
+	 * @param width width of the chunk
+	 * @param height height of the chunk
+	 * @param lowDetail whether to also make a downsampled copy
+	 */
+	public BackgroundCache(HorizontalMapRenderer mapRenderer, SpriteBatch batch, int width, int height,
+						   boolean lowDetail) {
+		this.width = width;
+		this.height = height;
+		IntBuffer maxSize = BufferUtils.newIntBuffer(16);
+		Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_SIZE, maxSize);
+		this.tileSize = Math.min(MAX_TILE_SIZE, maxSize.get(0));
+		this.cols = (width + tileSize - 1) / tileSize;
+		this.rows = (height + tileSize - 1) / tileSize;
+		this.buffers = new FrameBuffer[cols * rows];
+		this.tiles = new TextureRegion[cols * rows];
+
+		// setting the renderer's view sets the batch's projection, which the previous screen may still be drawing with
+		// (see GameMain.prepareScreen()), so it's put back once done
+		Matrix4 previous = new Matrix4(batch.getProjectionMatrix());
+		Matrix4 projection = new Matrix4();
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < cols; c++) {
+				int tx = c * tileSize;
+				int ty = r * tileSize;
+				int tw = Math.min(tileSize, width - tx);
+				int th = Math.min(tileSize, height - ty);
+				FrameBuffer buffer = ResourceManager.acquire(this,
+						new FrameBuffer(Pixmap.Format.RGB888, tw, th, false));
+				buffer.begin();
+				Gdx.gl.glClearColor(0, 0, 0, 1);
+				Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+				projection.setToOrtho2D(tx, ty, tw, th);
+				mapRenderer.setView(projection, tx, ty, tw, th);
+				mapRenderer.renderStaticLayers();
+				buffer.end();
+
+				TextureRegion tile = new TextureRegion(buffer.getColorBufferTexture());
+				tile.flip(false, true); // frame buffer textures are upside down
+				buffers[r * cols + c] = buffer;
+				tiles[r * cols + c] = tile;
+			}
+		}
+
+		if (lowDetail) {
+			lowBuffer = ResourceManager.acquire(this,
+					new FrameBuffer(Pixmap.Format.RGB888, width / LOW_DETAIL_DIVISOR, height / LOW_DETAIL_DIVISOR, false));
+			lowBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+			lowBuffer.begin();
+			projection.setToOrtho2D(0, 0, width, height);
+			batch.setProjectionMatrix(projection);
+			batch.begin();
+			drawTiles(batch, 0, 0, width, height);
+			batch.end();
+			lowBuffer.end();
+			lowTile = new TextureRegion(lowBuffer.getColorBufferTexture());
+			lowTile.flip(false, true);
+		}
+		batch.setProjectionMatrix(previous);
+	}
+
+	/**
+	 * Draws the part of the background within the given view. The batch must already be drawing, with the world
+	 * camera's projection.
+	 *
+	 * @param batch the sprite batch
+	 * @param viewX left of the view
+	 * @param viewY bottom of the view
+	 * @param viewWidth width of the view
+	 * @param viewHeight height of the view
+	 * @param lowDetail whether to draw the downsampled copy instead (if there is one)
+	 */
+	public void render(SpriteBatch batch, float viewX, float viewY, float viewWidth, float viewHeight,
+					   boolean lowDetail) {
+		batch.disableBlending(); // background is opaque, no need to blend
+		if (lowDetail && lowTile != null) {
+			batch.draw(lowTile, 0, 0, width, height);
+		} else {
+			drawTiles(batch, viewX, viewY, viewWidth, viewHeight);
+		}
+		batch.enableBlending();
+	}
+
+	/**
+	 * Draws the full detail tiles intersecting the given view.
+	 */
+	private void drawTiles(SpriteBatch batch, float viewX, float viewY, float viewWidth, float viewHeight) {
+		int minCol = Math.max(0, (int) (viewX / tileSize));
+		int maxCol = Math.min(cols - 1, (int) ((viewX + viewWidth) / tileSize));
+		int minRow = Math.max(0, (int) (viewY / tileSize));
+		int maxRow = Math.min(rows - 1, (int) ((viewY + viewHeight) / tileSize));
+		for (int r = minRow; r <= maxRow; r++) {
+			for (int c = minCol; c <= maxCol; c++) {
+				batch.draw(tiles[r * cols + c], c * tileSize, r * tileSize);
+			}
+		}
+	}
+
+	@Override
+	public void dispose() {
+		ResourceManager.release(this);
+	}
+}
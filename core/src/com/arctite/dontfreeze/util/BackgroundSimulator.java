@@ -0,0 +1,374 @@
+package com.arctite.dontfreeze.util;
+
+import com.arctite.dontfreeze.entities.Direction;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static com.arctite.dontfreeze.util.SaveManager.*;
+
+/**
+ * Coarse simulation of recently visited chunks that the player is no longer in, so that monsters keep wandering about
+ * (and calm down) while the player is away, rather than being frozen exactly where they were left.
+ *
+ * Runs on its own worker thread at a low tick rate, over plain snapshots of each chunk's state (ChunkState) - there
+ * are no Monster, AnimationManager or rendering objects involved. Monsters collide with the bounding rectangles of
+ * their chunk's terrain, which is coarser than the polygons the real world uses, but never lets them walk anywhere
+ * the real world wouldn't.
+ *
+ * Simulated time only advances while the game world is running (see advance()), and CPU use is bounded by the tick
+ * rate, the number of chunks kept (oldest are dropped) and how long each chunk is simulated for after being left.
+ *
+ * Results are merged back into the SaveManager on the GL thread, when the chunk is entered again (merge()) or the
+ * game is saved (mergeAll()).
+ */
+public class BackgroundSimulator implements Runnable, Disposable {
+
+	/** Defaults for the settings that bound CPU use */
+	public static final float DEFAULT_TICK_RATE = 2;
+	public static final int DEFAULT_MAX_CHUNKS = 4;
+
+	/** Chunks are only simulated for this long after being left, after which nothing much would change anyway */
+	private static final float MAX_SIM_TIME = 300;
+	/** Longest distance a monster moves between collision checks */
+	private static final float MAX_MOVE_STEP = 8;
+	/** Aggressive monsters calm down after this long without the player around */
+	private static final float AGGRO_DECAY_TIME = 10;
+	/** Timing values for monster random movement, same as Monster's */
+	private static final float MIN_RAND_TIME = 1.0F;
+	private static final float MAX_RAND_TIME = 4.0F;
+
+	/**
+	 * Snapshot of a monster, as much as is needed to move it around.
+	 */
+	public static class MonsterState {
+
+		private final String name;
+		private float x;
+		private float y;
+		private final int width;
+		private final int height;
+		private Direction dir;
+		private boolean aggressive;
+		private final int speed;
+		/** Terrain collision bounds, relative to x and y */
+		private final Rectangle collision;
+		/** Random movement state */
+		private boolean moving;
+		private float timeRemaining;
+
+		/**
+		 * Creates a snapshot of a monster.
+		 *
+		 * @param name unique name of the monster within its chunk
+		 * @param x x coordinate
+		 * @param y y coordinate
+		 * @param width sprite width
+		 * @param height sprite height
+		 * @param dir direction faced
+		 * @param aggressive whether the monster is aggressive
+		 * @param speed movement speed
+		 * @param collision terrain collision bounds, at the monster's current position (copied)
+		 */
+		public MonsterState(String name, float x, float y, int width, int height, Direction dir, boolean aggressive,
+							int speed, Rectangle collision) {
+			this.name = name;
+			this.x = x;
+			this.y = y;
+			this.width = width;
+			this.height = height;
+			this.dir = dir;
+			this.aggressive = aggressive;
+			this.speed = speed;
+			this.collision = new Rectangle(collision.x - x, collision.y - y, collision.width, collision.height);
+		}
+	}
+
+	/**
+	 * Snapshot of a chunk that the player has left.
+	 */
+	public static class ChunkState {
+
+		private final int chunkX;
+		private final int chunkY;
+		private final float width;
+		private final float height;
+		private final ArrayList<MonsterState> monsters;
+		private final ArrayList<Rectangle> obstacles;
+		/** Simulated time since the chunk was left */
+		private float simTime;
+
+		/**
+		 * Creates an empty snapshot of the given chunk.
+		 *
+		 * @param chunkX x coordinate of the chunk
+		 * @param chunkY y coordinate of the chunk
+		 * @param width width of the chunk
+		 * @param height height of the chunk
+		 */
+		public ChunkState(int chunkX, int chunkY, float width, float height) {
+			this.chunkX = chunkX;
+			this.chunkY = chunkY;
+			this.width = width;
+			this.height = height;
+			this.monsters = new ArrayList<MonsterState>();
+			this.obstacles = new ArrayList<Rectangle>();
+		}
+
+		public void addMonster(MonsterState monster) {
+			monsters.add(monster);
+		}
+
+		/**
+		 * Adds a terrain shape that monsters can't walk through.
+		 *
+		 * @param bounds bounding rectangle of the shape (copied)
+		 */
+		public void addObstacle(Rectangle bounds) {
+			obstacles.add(new Rectangle(bounds));
+		}
+
+		private String getChunkId() {
+			return (new String() + chunkX) + chunkY;
+		}
+	}
+
+	/** Ticks per second */
+	private final float tickRate;
+	/** Most chunks to keep simulating */
+	private final int maxChunks;
+
+	/** Chunks being simulated, oldest first. Guarded by this */
+	private final ArrayList<ChunkState> chunks;
+	/** Game time passed that hasn't been simulated yet. Guarded by this */
+	private float pendingTime;
+	private final Random random;
+	private final Rectangle bounds; // reused for collision checks, worker thread only
+
+	private Thread thread;
+	private volatile boolean running;
+
+	/**
+	 * Creates a BackgroundSimulator. Call start() to start the worker thread.
+	 *
+	 * @param tickRate simulation ticks per second
+	 * @param maxChunks most chunks to keep simulating at once
+	 */
+	public BackgroundSimulator(float tickRate, int maxChunks) {
+		if (tickRate <= 0 || maxChunks <= 0) {
+			throw new IllegalArgumentException("tick rate and max chunks must be positive");
+		}
+		this.tickRate = tickRate;
+		this.maxChunks = maxChunks;
+		this.chunks = new ArrayList<ChunkState>();
+		this.random = new Random();
+		this.bounds = new Rectangle();
+	}
+
+	/**
+	 * Starts the worker thread.
+	 */
+	public void start() {
+		running = true;
+		thread = new Thread(this, "background-sim");
+		thread.setDaemon(true); // never keeps the game open
+		thread.setPriority(Thread.MIN_PRIORITY);
+		thread.start();
+	}
+
+	@Override
+	public void run() {
+		long tickMillis = (long) (1000 / tickRate);
+		while (running) {
+			try {
+				Thread.sleep(tickMillis);
+			} catch (InterruptedException e) {
+				return;
+			}
+			tick();
+		}
+	}
+
+	/**
+	 * Adds game time for the simulation to catch up on, next tick. Called by the world every frame it isn't paused.
+	 *
+	 * @param delta time passed
+	 */
+	public synchronized void advance(float delta) {
+		pendingTime += delta;
+	}
+
+	/**
+	 * Starts simulating a chunk that the player has just left. Its state must have already been saved to the
+	 * SaveManager. If too many chunks are now being simulated, the oldest one is merged and dropped.
+	 *
+	 * @param state snapshot of the chunk
+	 */
+	public synchronized void leave(ChunkState state) {
+		chunks.add(state);
+		if (chunks.size() > maxChunks) {
+			// no longer simulated, so its monsters would never get the chance to calm down
+			mergeChunk(chunks.remove(0), true);
+		}
+	}
+
+	/**
+	 * Stops simulating the given chunk if it was being simulated, and writes its results to the SaveManager. Called
+	 * before the chunk is loaded again.
+	 *
+	 * @param chunkX x coordinate of the chunk
+	 * @param chunkY y coordinate of the chunk
+	 */
+	public synchronized void merge(int chunkX, int chunkY) {
+		for (int i = 0; i < chunks.size(); i++) {
+			ChunkState state = chunks.get(i);
+			if (state.chunkX == chunkX && state.chunkY == chunkY) {
+				chunks.remove(i);
+				mergeChunk(state, false);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Writes the current results of all chunks to the SaveManager, without stopping their simulation. Called before the
+	 * game is saved to file. Monsters are saved calm, since the saved game won't simulate them when it's loaded.
+	 */
+	public synchronized void mergeAll() {
+		for (ChunkState state : chunks) {
+			mergeChunk(state, true);
+		}
+	}
+
+	/**
+	 * Drops all chunks without merging them, eg. when a new game is started or a save is loaded.
+	 */
+	public synchronized void clear() {
+		chunks.clear();
+		pendingTime = 0;
+	}
+
+	/**
+	 * Writes a chunk's monster states to the SaveManager. Monsters which are no longer in the save are skipped.
+	 *
+	 * @param calm whether to save every monster as not aggressive, as leaving a chunk did without the simulator, for
+	 *             when the chunk won't be simulated until its monsters calm down
+	 */
+	private void mergeChunk(ChunkState state, boolean calm) {
+		SaveManager saver = SaveManager.getSaveManager();
+		String chunkId = state.getChunkId();
+		for (MonsterState m : state.monsters) {
+			if (!saver.hasDataValue(chunkId + MONSTER + m.name + ACTIVE)) {
+				continue;
+			}
+			saver.setDataValue(chunkId + MONSTER + m.name + POSITION_X, m.x);
+			saver.setDataValue(chunkId + MONSTER + m.name + POSITION_Y, m.y);
+			saver.setDataValue(chunkId + MONSTER + m.name + DIR_IDX, m.dir.getIdx());
+			saver.setDataValue(chunkId + MONSTER + m.name + AGGRO, m.aggressive && !calm);
+		}
+	}
+
+	/**
+	 * Simulates all pending time, on the worker thread.
+	 */
+	private synchronized void tick() {
+		float delta = pendingTime;
+		pendingTime = 0;
+		if (delta <= 0) {
+			return;
+		}
+		for (ChunkState state : chunks) {
+			if (state.simTime >= MAX_SIM_TIME) {
+				continue;
+			}
+			float chunkDelta = Math.min(delta, MAX_SIM_TIME - state.simTime);
+			state.simTime += chunkDelta;
+			for (MonsterState m : state.monsters) {
+				update(state, m, chunkDelta);
+			}
+		}
+	}
+
+	/**
+	 * Coarse version of a non-aggressive Monster's update: alternates between idling and moving in a random direction
+	 * for a random time, stopping when blocked.
+	 */
+	private void update(ChunkState state, MonsterState m, float delta) {
+		if (m.aggressive && state.simTime >= AGGRO_DECAY_TIME) {
+			m.aggressive = false;
+		}
+		if (m.aggressive) {
+			return; // waits around for the player until it calms down
+		}
+		float left = delta;
+		while (left > 0) {
+			if (m.timeRemaining <= 0) {
+				m.timeRemaining = random.nextFloat() * (MAX_RAND_TIME - MIN_RAND_TIME) + MIN_RAND_TIME;
+				m.moving = !m.moving; // flip moving
+				if (m.moving) {
+					m.dir = Direction.getByIndex(random.nextInt(Direction.values().length));
+				}
+			}
+			float time = Math.min(left, m.timeRemaining);
+			m.timeRemaining -= time;
+			left -= time;
+			if (m.moving) {
+				move(state, m, time * m.speed);
+			}
+		}
+	}
+
+	/**
+	 * Moves a monster the given distance in its current direction, in small steps, stopping at the first collision.
+	 */
+	private void move(ChunkState state, MonsterState m, float dist) {
+		float dx = 0;
+		float dy = 0;
+		if (m.dir == Direction.LEFT) dx = -1;
+		else if (m.dir == Direction.RIGHT) dx = 1;
+		else if (m.dir == Direction.UP) dy = 1;
+		else if (m.dir == Direction.DOWN) dy = -1;
+		while (dist > 0) {
+			float step = Math.min(dist, MAX_MOVE_STEP);
+			dist -= step;
+			float nx = m.x + dx * step;
+			float ny = m.y + dy * step;
+			bounds.set(nx + m.collision.x, ny + m.collision.y, m.collision.width, m.collision.height);
+			// monsters left standing over the border by a streamed world can only walk back in
+			boolean blocked = overhang(state, m, nx, ny) > overhang(state, m, m.x, m.y);
+			for (int i = 0; i < state.obstacles.size() && !blocked; i++) {
+				blocked = state.obstacles.get(i).overlaps(bounds);
+			}
+			if (blocked) {
+				m.moving = false; // spend the rest of the time idling, like Monster.tryMove()
+				return;
+			}
+			m.x = nx;
+			m.y = ny;
+		}
+	}
+
+	/**
+	 * Gets how far a monster at the given position would be outside its chunk, summed over each side.
+	 */
+	private static float overhang(ChunkState state, MonsterState m, float x, float y) {
+		return Math.max(0, -x) + Math.max(0, -y) + Math.max(0, x + m.width - state.width)
+				+ Math.max(0, y + m.height - state.height);
+	}
+
+	@Override
+	public void dispose() {
+		running = false;
+		if (thread != null) {
+			thread.interrupt();
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			thread = null;
+		}
+	}
+}
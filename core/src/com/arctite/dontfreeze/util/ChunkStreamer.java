@@ -0,0 +1,255 @@
+package com.arctite.dontfreeze.util;
+
+import com.arctite.dontfreeze.WorldScreen;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+
+/**
+ * Keeps a 3x3 window of map chunks, centred on the chunk the player is in, resident in memory. Neighbouring chunks
+ * are loaded in the background by an AssetManager (the tmx files are parsed on its loader thread, and only the texture
+ * uploads and renderer setup happen on the GL thread, a little each frame), so that by the time the player walks over
+ * a border, the next chunk is already there to be drawn and walked on.
+ *
+ * Chunks that fall out of the window are disposed of on the next update(), rather than immediately, since the world
+ * that was using them may still draw one more frame.
+ *
+ * All methods must be called on the GL thread.
+ */
+public class ChunkStreamer implements Disposable {
+
+	/** Time in milliseconds that the asset manager may spend loading each update */
+	private static final int LOAD_MILLIS = 4;
+
+	/** Dimensions of the world in chunks */
+	private static final int CHUNKS_WIDE = WorldScreen.RIGHTMOST_CHUNK_X - WorldScreen.LEFTMOST_CHUNK_X + 1;
+	private static final int CHUNKS_HIGH = WorldScreen.HIGHEST_CHUNK_Y - WorldScreen.LOWEST_CHUNK_Y + 1;
+
+	/**
+	 * A chunk within the window. The map, renderer and background are null until the chunk has finished loading.
+	 */
+	public static class Chunk {
+
+		private final int chunkX;
+		private final int chunkY;
+		private final String file;
+		private TiledMap map;
+		private HorizontalMapRenderer renderer;
+		private BackgroundCache background; // null if not caching backgrounds
+
+		private Chunk(int chunkX, int chunkY) {
+			this.chunkX = chunkX;
+			this.chunkY = chunkY;
+			this.file = WorldScreen.getMapFile(chunkX, chunkY);
+		}
+
+		public int getChunkX() {
+			return chunkX;
+		}
+
+		public int getChunkY() {
+			return chunkY;
+		}
+
+		public TiledMap getMap() {
+			return map;
+		}
+
+		public HorizontalMapRenderer getRenderer() {
+			return renderer;
+		}
+
+		public BackgroundCache getBackground() {
+			return background;
+		}
+	}
+
+	/** Loads the chunks' maps, and the textures they depend on */
+	private final AssetManager assets;
+	/** Settings for the renderers of loaded chunks */
+	private final SpriteBatch batch;
+	private final boolean cacheSprites;
+	private final boolean cacheBackground;
+	private final boolean lowDetail;
+
+	/** Chunks in the window (loaded or still loading) by [x][y], null if not in the window */
+	private final Chunk[][] chunks;
+	/** Chunks in the window that are still loading, in the order they were queued */
+	private final ArrayList<Chunk> loading;
+	/** Chunks that have left the window, to be disposed next update */
+	private final ArrayList<Chunk> evicted;
+
+	/**
+	 * Creates a ChunkStreamer with an empty window. Call recentre() to start loading chunks.
+	 *
+	 * @param batch the sprite batch the chunks will be rendered with
+	 * @param cacheSprites whether to cache each chunk's sprite layer (see HorizontalMapRenderer)
+	 * @param cacheBackground whether to composite each chunk's background (see BackgroundCache)
+	 * @param lowDetail whether composited backgrounds should also have a low detail copy
+	 */
+	public ChunkStreamer(SpriteBatch batch, boolean cacheSprites, boolean cacheBackground, boolean lowDetail) {
+		this.assets = new AssetManager(AssetFiles.RESOLVER);
+		assets.setLoader(TiledMap.class, new TmxMapLoader(AssetFiles.RESOLVER));
+		this.batch = batch;
+		this.cacheSprites = cacheSprites;
+		this.cacheBackground = cacheBackground;
+		this.lowDetail = lowDetail;
+		this.chunks = new Chunk[CHUNKS_WIDE][CHUNKS_HIGH];
+		this.loading = new ArrayList<Chunk>();
+		this.evicted = new ArrayList<Chunk>();
+	}
+
+	/**
+	 * Moves the window to be centred on the given chunk. Chunks that are no longer in the window are evicted, and any
+	 * chunks that have come into the window are queued for loading, the centre chunk first.
+	 *
+	 * @param centreX x coordinate of the new centre chunk
+	 * @param centreY y coordinate of the new centre chunk
+	 */
+	public void recentre(int centreX, int centreY) {
+		for (int x = 0; x < CHUNKS_WIDE; x++) {
+			for (int y = 0; y < CHUNKS_HIGH; y++) {
+				Chunk chunk = chunks[x][y];
+				if (chunk != null && (Math.abs(chunk.chunkX - centreX) > 1 || Math.abs(chunk.chunkY - centreY) > 1)) {
+					chunks[x][y] = null;
+					loading.remove(chunk);
+					evicted.add(chunk);
+				}
+			}
+		}
+		queue(centreX, centreY);
+		for (int dx = -1; dx <= 1; dx++) {
+			for (int dy = -1; dy <= 1; dy++) {
+				queue(centreX + dx, centreY + dy);
+			}
+		}
+	}
+
+	/**
+	 * Queues the given chunk for loading, if it exists and isn't already in the window.
+	 */
+	private void queue(int chunkX, int chunkY) {
+		if (!exists(chunkX, chunkY) || chunks[index(chunkX, true)][index(chunkY, false)] != null) {
+			return;
+		}
+		Chunk chunk = new Chunk(chunkX, chunkY);
+		chunks[index(chunkX, true)][index(chunkY, false)] = chunk;
+		loading.add(chunk);
+		assets.load(chunk.file, TiledMap.class);
+	}
+
+	/**
+	 * Disposes evicted chunks, and continues loading queued chunks. At most one newly loaded chunk is set up for
+	 * rendering per update, to spread the cost over several frames. Should be called once per frame, while the sprite
+	 * batch is not drawing.
+	 */
+	public void update() {
+		for (Chunk chunk : evicted) {
+			dispose(chunk);
+		}
+		evicted.clear();
+
+		if (!loading.isEmpty()) {
+			assets.update(LOAD_MILLIS);
+			for (int i = 0; i < loading.size(); i++) {
+				Chunk chunk = loading.get(i);
+				if (assets.isLoaded(chunk.file)) {
+					build(chunk);
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the given chunk, finishing loading it first if necessary. The chunk must be in the window.
+	 *
+	 * @param chunkX x coordinate of the chunk
+	 * @param chunkY y coordinate of the chunk
+	 * @return the loaded chunk
+	 */
+	public Chunk getChunk(int chunkX, int chunkY) {
+		Chunk chunk = exists(chunkX, chunkY) ? chunks[index(chunkX, true)][index(chunkY, false)] : null;
+		if (chunk == null) {
+			throw new IllegalStateException("chunk (" + chunkX + ", " + chunkY + ") is not in the streaming window");
+		}
+		if (chunk.map == null) {
+			assets.finishLoadingAsset(chunk.file);
+			build(chunk);
+		}
+		return chunk;
+	}
+
+	/**
+	 * Gets the given chunk if it's in the window and has finished loading.
+	 *
+	 * @param chunkX x coordinate of the chunk
+	 * @param chunkY y coordinate of the chunk
+	 * @return the loaded chunk, or null if it doesn't exist or isn't loaded yet
+	 */
+	public Chunk getLoadedChunk(int chunkX, int chunkY) {
+		if (!exists(chunkX, chunkY)) {
+			return null;
+		}
+		Chunk chunk = chunks[index(chunkX, true)][index(chunkY, false)];
+		return (chunk != null && chunk.map != null) ? chunk : null;
+	}
+
+	/**
+	 * Sets up a chunk whose map has finished loading, for rendering.
+	 */
+	private void build(Chunk chunk) {
+		chunk.map = assets.get(chunk.file, TiledMap.class);
+		chunk.renderer = ResourceManager.acquire(chunk, new HorizontalMapRenderer(chunk.map, batch, cacheSprites));
+		if (cacheBackground) {
+			chunk.background = ResourceManager.acquire(chunk,
+					new BackgroundCache(chunk.renderer, batch, WorldScreen.CHUNK_WIDTH, WorldScreen.CHUNK_HEIGHT, lowDetail));
+		}
+		loading.remove(chunk);
+	}
+
+	/**
+	 * Releases a chunk's renderers and unloads its map.
+	 */
+	private void dispose(Chunk chunk) {
+		ResourceManager.release(chunk);
+		assets.unload(chunk.file); // also removes it from the queue, if it hadn't finished loading
+	}
+
+	/**
+	 * Checks whether the given chunk exists in the world.
+	 */
+	private static boolean exists(int chunkX, int chunkY) {
+		return chunkX >= WorldScreen.LEFTMOST_CHUNK_X && chunkX <= WorldScreen.RIGHTMOST_CHUNK_X
+				&& chunkY >= WorldScreen.LOWEST_CHUNK_Y && chunkY <= WorldScreen.HIGHEST_CHUNK_Y;
+	}
+
+	/**
+	 * Converts a chunk coordinate into an index of the chunks array.
+	 */
+	private static int index(int chunkCoord, boolean x) {
+		return chunkCoord - (x ? WorldScreen.LEFTMOST_CHUNK_X : WorldScreen.LOWEST_CHUNK_Y);
+	}
+
+	@Override
+	public void dispose() {
+		for (int x = 0; x < CHUNKS_WIDE; x++) {
+			for (int y = 0; y < CHUNKS_HIGH; y++) {
+				if (chunks[x][y] != null) {
+					evicted.add(chunks[x][y]);
+					chunks[x][y] = null;
+				}
+			}
+		}
+		loading.clear();
+		for (Chunk chunk : evicted) {
+			dispose(chunk);
+		}
+		evicted.clear();
+		assets.dispose();
+	}
+}
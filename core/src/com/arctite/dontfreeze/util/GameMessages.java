@@ -1,6 +1,5 @@
 package com.arctite.dontfreeze.util;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 
 import java.io.IOException;
@@ -31,7 +30,7 @@ public class GameMessages {
 	public static void loadMessages() {
 		messages = new HashMap<String, String>();
 
-		FileHandle messagesFile = Gdx.files.internal(MESSAGES_FILE_LOCATION);
+		FileHandle messagesFile = AssetFiles.internal(MESSAGES_FILE_LOCATION);
 		Properties props = new Properties();
 		try {
 			props.load(messagesFile.read());
@@ -57,6 +56,16 @@ public class GameMessages {
 		}
 	}
 
+	/**
+	 * Checks whether there is a message for the given event name.
+	 *
+	 * @param name the event name
+	 * @return whether there is a message
+	 */
+	public static boolean hasMessage(String name) {
+		return messages.containsKey(name);
+	}
+
 	/**
 	 * Gets a message by the event name.
 	 *
@@ -2,16 +2,16 @@ package com.arctite.dontfreeze.util;
 
 import com.arctite.dontfreeze.entities.AnimatedObstacle;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapLayer;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
-import com.badlogic.gdx.maps.tiled.TiledMapTile;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
-
-import java.util.HashMap;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 
 /**
  * Extension of the OrthogonalTiledMapRenderer.
@@ -34,8 +34,89 @@ public class HorizontalMapRenderer extends OrthogonalTiledMapRenderer {
 	public static final int MAX_SPRITE_WIDTH = 700;
 	public static final int MAX_SPRITE_HEIGHT = 700;
 
+	/** Sparse index of the sprite layer: occupied rows in descending y order, and each row's tiles in ascending x order */
+	private int[] rowYs;
+	private int[] rowStarts; // index of each row's first tile, with an extra entry at the end
+	private int[] tileXs;
+	private TextureRegion[] tileRegions;
+	/**
+	 * Cache of the sprite layer's static geometry, in the same order as tileRegions so that any run of rows is one
+	 * contiguous range. Null if not caching. SpriteCache can only draw part of a cache that has a single texture, so
+	 * the tiles are split into a cache per run of tiles with the same texture (normally just the one).
+	 */
+	private SpriteCache spriteCache;
+	private int[] runStarts; // index of each run's first tile, with an extra entry at the end
+	private int[] runCacheIds;
+
 	public HorizontalMapRenderer(TiledMap tiledMap, SpriteBatch spriteBatch) {
+		this(tiledMap, spriteBatch, false);
+	}
+
+	/**
+	 * Creates a new HorizontalMapRenderer, indexing the sprite layer's tiles.
+	 *
+	 * @param tiledMap the map to render
+	 * @param spriteBatch the batch to render with
+	 * @param cached whether to build the sprite layer into a SpriteCache, so that its vertices don't have to be
+	 *               re-submitted every frame
+	 */
+	public HorizontalMapRenderer(TiledMap tiledMap, SpriteBatch spriteBatch, boolean cached) {
 		super(tiledMap, spriteBatch);
+
+		// index the sprite layer once, rather than checking every cell on screen every frame
+		IntArray ys = new IntArray();
+		IntArray starts = new IntArray();
+		IntArray xs = new IntArray();
+		Array<TextureRegion> regions = new Array<TextureRegion>();
+		TiledMapTileLayer layer = (TiledMapTileLayer) tiledMap.getLayers().get(SPRITE_LAYER);
+		if (layer != null) {
+			int layerWidth = layer.getWidth();
+			for (int y = layer.getHeight() - 1; y >= 0; y--) { // top down, same as render order
+				boolean occupied = false;
+				for (int x = 0; x < layerWidth; x++) {
+					Cell cell = layer.getCell(x, y);
+					if (cell == null) {
+						continue;
+					}
+					if (!occupied) {
+						ys.add(y);
+						starts.add(xs.size);
+						occupied = true;
+					}
+					xs.add(x);
+					regions.add(cell.getTile().getTextureRegion());
+				}
+			}
+		}
+		starts.add(xs.size);
+		this.rowYs = ys.toArray();
+		this.rowStarts = starts.toArray();
+		this.tileXs = xs.toArray();
+		this.tileRegions = regions.toArray(TextureRegion.class);
+
+		if (cached && tileRegions.length > 0) {
+			this.spriteCache = ResourceManager.acquire(this, new SpriteCache(tileRegions.length, false));
+			IntArray runs = new IntArray();
+			IntArray cacheIds = new IntArray();
+			int r = 0;
+			for (int t = 0; t < tileRegions.length; t++) {
+				if (t == 0 || tileRegions[t].getTexture() != tileRegions[t - 1].getTexture()) {
+					if (t > 0) {
+						cacheIds.add(spriteCache.endCache());
+					}
+					runs.add(t);
+					spriteCache.beginCache();
+				}
+				while (t >= rowStarts[r + 1]) {
+					r++;
+				}
+				spriteCache.add(tileRegions[t], tileXs[t], rowYs[r]);
+			}
+			cacheIds.add(spriteCache.endCache());
+			runs.add(tileRegions.length);
+			this.runStarts = runs.toArray();
+			this.runCacheIds = cacheIds.toArray();
+		}
 	}
 
 	/**
@@ -65,6 +146,22 @@ public class HorizontalMapRenderer extends OrthogonalTiledMapRenderer {
 		super.endRender();
 	}
 
+	/**
+	 * Renders all static layers: the background layer, and any visible tile layers other than the sprite layer, in
+	 * layer order. Used to composite the BackgroundCache.
+	 */
+	public void renderStaticLayers() {
+		super.beginRender();
+		for (MapLayer layer : map.getLayers()) {
+			if (layer.getName().equals(BACKGROUND_LAYER)) {
+				renderImageLayer((TiledMapImageLayer) layer);
+			} else if (layer.isVisible() && layer instanceof TiledMapTileLayer && !layer.getName().equals(SPRITE_LAYER)) {
+				renderTileLayer((TiledMapTileLayer) layer);
+			}
+		}
+		super.endRender();
+	}
+
 	/**
 	 * Special method for rendering specific portions of the sprite layer.
 	 *
@@ -114,16 +211,82 @@ public class HorizontalMapRenderer extends OrthogonalTiledMapRenderer {
 		if (last) { // render deeper only if this is the last call of the frame
 			endY -= MAX_SPRITE_HEIGHT;
 		}
-		for (int y = startY; y >= endY; y--) { // render from the top down
-			for (int x = startX; x <= endX; x++) {
-				Cell cell = layer.getCell(x, y);
-				if (cell == null) {
-					continue; // don't render this position because nothing is here
+		// find the first occupied row at or below startY (rows are in descending y order)
+		int low = 0;
+		int high = rowYs.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (rowYs[mid] > startY) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		if (low == rowYs.length || rowYs[low] < endY) {
+			return; // nothing in this portion
+		}
+
+		if (spriteCache != null) {
+			// the rows in the portion are one range of the cache, drawn in one go (per texture). rows aren't culled in x,
+			// since the view is most of a chunk wide and off-screen tiles are clipped before they cost any fill
+			int end = low; // first row below the portion
+			high = rowYs.length;
+			while (end < high) {
+				int mid = (end + high) >>> 1;
+				if (rowYs[mid] >= endY) {
+					end = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			drawCached(rowStarts[low], rowStarts[end]);
+			return;
+		}
+
+		for (int r = low; r < rowYs.length && rowYs[r] >= endY; r++) { // render from the top down
+			int y = rowYs[r];
+			int rowEnd = rowStarts[r + 1];
+			for (int t = rowStarts[r]; t < rowEnd; t++) {
+				int x = tileXs[t];
+				if (x < startX) {
+					continue;
+				} else if (x > endX) {
+					break; // tiles are in ascending x order
 				}
-				TiledMapTile tile = cell.getTile();
-				TextureRegion region = tile.getTextureRegion();
-				batch.draw(region, x, y);
+				batch.draw(tileRegions[t], x, y);
 			}
 		}
 	}
+
+	/**
+	 * Draws the given range of tiles out of the sprite cache. The batch has to be flushed and stopped while the cache
+	 * draws.
+	 *
+	 * @param start index of the first tile
+	 * @param end index after the last tile
+	 */
+	private void drawCached(int start, int end) {
+		batch.end();
+		spriteCache.setProjectionMatrix(batch.getProjectionMatrix());
+		spriteCache.begin();
+		for (int i = 0; i < runCacheIds.length; i++) {
+			int from = Math.max(start, runStarts[i]);
+			int to = Math.min(end, runStarts[i + 1]);
+			if (from < to) {
+				spriteCache.draw(runCacheIds[i], from - runStarts[i], to - from);
+			}
+		}
+		spriteCache.end();
+		batch.begin();
+	}
+
+	/**
+	 * Releases the sprite cache, if there is one.
+	 */
+	@Override
+	public void dispose() {
+		super.dispose();
+		ResourceManager.release(this);
+		spriteCache = null;
+	}
 }
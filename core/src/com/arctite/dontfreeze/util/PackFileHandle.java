@@ -0,0 +1,127 @@
+package com.arctite.dontfreeze.util;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * FileHandle of an asset (or directory) within an AssetPack. Reading is done straight out of the mapped pack: slice()
+ * returns a slice of it without copying, and read() streams from one.
+ *
+ * Navigating from it (child(), parent(), sibling()) goes back through the resolver, so that assets missing from the
+ * pack are still found as loose files.
+ */
+public class PackFileHandle extends FileHandle {
+
+	private final AssetPack pack;
+	private final PackFileHandleResolver resolver;
+	/** Normalised path within the pack */
+	private final String packPath;
+
+	/**
+	 * Creates a handle for the given path in the pack.
+	 *
+	 * @param pack the asset pack
+	 * @param resolver resolver which handles navigating from this handle
+	 * @param packPath normalised path of the asset or directory
+	 */
+	public PackFileHandle(AssetPack pack, PackFileHandleResolver resolver, String packPath) {
+		super(new File(packPath), FileType.Internal);
+		this.pack = pack;
+		this.resolver = resolver;
+		this.packPath = packPath;
+	}
+
+	@Override
+	public InputStream read() {
+		if (isDirectory()) {
+			return super.read(); // throws the usual exception
+		}
+		final ByteBuffer data = pack.slice(packPath);
+		return new InputStream() {
+			@Override
+			public int read() {
+				return data.hasRemaining() ? data.get() & 0xFF : -1;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) {
+				if (len == 0) {
+					return 0;
+				}
+				if (!data.hasRemaining()) {
+					return -1;
+				}
+				int n = Math.min(len, data.remaining());
+				data.get(b, off, n);
+				return n;
+			}
+
+			@Override
+			public long skip(long n) {
+				int skipped = (int) Math.max(0, Math.min(n, data.remaining()));
+				data.position(data.position() + skipped);
+				return skipped;
+			}
+
+			@Override
+			public int available() {
+				return data.remaining();
+			}
+		};
+	}
+
+	@Override
+	public byte[] readBytes() {
+		ByteBuffer data = pack.slice(packPath);
+		byte[] bytes = new byte[data.remaining()];
+		data.get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Gets the asset's data as a read-only slice of the mapped pack, without copying it.
+	 *
+	 * @return new buffer positioned at the start of the asset's data
+	 */
+	public ByteBuffer slice() {
+		return pack.slice(packPath);
+	}
+
+	@Override
+	public boolean exists() {
+		return pack.contains(packPath) || pack.isDirectory(packPath);
+	}
+
+	@Override
+	public boolean isDirectory() {
+		return pack.isDirectory(packPath);
+	}
+
+	@Override
+	public long length() {
+		return pack.contains(packPath) ? pack.length(packPath) : 0;
+	}
+
+	@Override
+	public FileHandle child(String name) {
+		return resolver.resolve(packPath.length() == 0 ? name : packPath + "/" + name);
+	}
+
+	@Override
+	public FileHandle sibling(String name) {
+		if (packPath.length() == 0) {
+			throw new RuntimeException("cannot get the sibling of the root");
+		}
+		return parent().child(name);
+	}
+
+	@Override
+	public FileHandle parent() {
+		int slash = packPath.lastIndexOf('/');
+		return resolver.resolve(slash < 0 ? "" : packPath.substring(0, slash));
+	}
+}
@@ -0,0 +1,52 @@
+package com.arctite.dontfreeze.util;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+
+/**
+ * FileHandleResolver which serves assets out of an AssetPack, falling back to loose internal files for anything that
+ * isn't in the pack (eg. assets added during development since the pack was last built). While developing, loose files
+ * that have been changed since the pack was built can also be served instead of the pack's copy, so that assets can be
+ * edited without rebuilding the pack. That costs a file check per asset, so it's off unless asked for.
+ */
+public class PackFileHandleResolver implements FileHandleResolver {
+
+	private final AssetPack pack;
+	/** Whether to check for loose files changed since the pack was built */
+	private final boolean checkLoose;
+	/** When the pack file was last modified */
+	private final long packModified;
+
+	/**
+	 * Creates a resolver for the given pack.
+	 *
+	 * @param pack the asset pack
+	 * @param checkLoose whether to serve loose files changed since the pack was built
+	 * @param packModified when the pack file was last modified, in milliseconds since the epoch
+	 */
+	public PackFileHandleResolver(AssetPack pack, boolean checkLoose, long packModified) {
+		this.pack = pack;
+		this.checkLoose = checkLoose;
+		this.packModified = packModified;
+	}
+
+	@Override
+	public FileHandle resolve(String fileName) {
+		String path = AssetPack.normalise(fileName);
+		if (pack.isDirectory(path) || (pack.contains(path) && !(checkLoose && isLooseNewer(path)))) {
+			return new PackFileHandle(pack, this, path);
+		}
+		return Gdx.files.internal(path);
+	}
+
+	/**
+	 * Checks whether the given asset is also a loose file (not only on the classpath), changed since the pack was built.
+	 */
+	private boolean isLooseNewer(String path) {
+		File file = Gdx.files.internal(path).file();
+		return file.isFile() && file.lastModified() > packModified;
+	}
+}
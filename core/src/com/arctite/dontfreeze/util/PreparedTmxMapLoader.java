@@ -0,0 +1,100 @@
+package com.arctite.dontfreeze.util;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.ImageResolver;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.XmlReader.Element;
+
+import java.io.IOException;
+
+/**
+ * TmxMapLoader which loads one map in separate steps, so that the CPU work can be done off the GL thread: prepare()
+ * parses the tmx and decodes its images (any thread), then each image is uploaded with upload(), and finish() builds
+ * the map (GL thread). Produces the same map as TmxMapLoader.load() with default parameters.
+ */
+public class PreparedTmxMapLoader extends TmxMapLoader {
+
+	private FileHandle tmxFile;
+	private Element tmxRoot;
+	/** Images used by the map, their decoded pixels (null once uploaded), and uploaded textures by path */
+	private Array<FileHandle> imageFiles;
+	private Array<Pixmap> pixmaps;
+	private ObjectMap<String, Texture> textures;
+
+	public PreparedTmxMapLoader(FileHandleResolver resolver) {
+		super(resolver);
+	}
+
+	/**
+	 * Parses the given map and decodes the images it uses. Can be called on any thread.
+	 *
+	 * @param fileName the tmx file
+	 */
+	public void prepare(String fileName) {
+		tmxFile = resolve(fileName);
+		try {
+			tmxRoot = xml.parse(tmxFile);
+			imageFiles = new Array<FileHandle>();
+			ObjectMap<String, Boolean> seen = new ObjectMap<String, Boolean>();
+			Array<FileHandle> files = loadTilesets(tmxRoot, tmxFile);
+			files.addAll(loadImages(tmxRoot, tmxFile));
+			for (FileHandle file : files) {
+				if (!seen.containsKey(file.path())) { // tilesets may share images
+					seen.put(file.path(), Boolean.TRUE);
+					imageFiles.add(file);
+				}
+			}
+		} catch (IOException e) {
+			throw new GdxRuntimeException("couldn't load tilemap '" + fileName + "'", e);
+		}
+		pixmaps = new Array<Pixmap>(imageFiles.size);
+		for (FileHandle file : imageFiles) {
+			pixmaps.add(new Pixmap(file));
+		}
+		textures = new ObjectMap<String, Texture>();
+	}
+
+	/**
+	 * Gets the number of images to upload.
+	 *
+	 * @return number of images
+	 */
+	public int getImageCount() {
+		return imageFiles.size;
+	}
+
+	/**
+	 * Uploads one of the map's images. Must be called on the GL thread, after prepare().
+	 *
+	 * @param index index of the image, below getImageCount()
+	 */
+	public void upload(int index) {
+		Pixmap pixmap = pixmaps.get(index);
+		textures.put(imageFiles.get(index).path(), new Texture(pixmap));
+		pixmap.dispose();
+		pixmaps.set(index, null);
+	}
+
+	/**
+	 * Builds the map. Must be called on the GL thread, after every image has been uploaded.
+	 *
+	 * @return the map, which owns its textures
+	 */
+	public TiledMap finish() {
+		// same as the default parameters
+		convertObjectToTileSpace = false;
+		flipY = true;
+		TiledMap tiledMap = loadTilemap(tmxRoot, tmxFile, new ImageResolver.DirectImageResolver(textures));
+		tiledMap.setOwnedResources(textures.values().toArray());
+		tmxRoot = null;
+		pixmaps = null;
+		return tiledMap;
+	}
+}
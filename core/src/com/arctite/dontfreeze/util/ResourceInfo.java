@@ -1,15 +1,20 @@
 package com.arctite.dontfreeze.util;
 
 import com.arctite.dontfreeze.entities.Action;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Rectangle;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.Properties;
 
 /**
  * Details each Collectable, Entity (Monster), and Projectile in the game, containing all relevant information such as
  * file locations, sprite width/height, id numbers, etc.
  *
- * @TODO: load these values from file instead of hardcoding into this enum class
+ * The stats hardcoded below can be overridden from a data file (see loadData()), so that they can be tuned without
+ * recompiling.
+ *
  * @TODO: collision boundary definitions for each type
  *
  * Created by Quasar on 27/06/2015.
@@ -135,6 +140,31 @@ public enum ResourceInfo {
 		ICE_ELEMENTAL_PROJECTILE.frameRates.put(Action.EXPIRING, 0.1F);
 	}
 
+	/** Lookup table of infos, by type (ordinal) then id */
+	private static final ResourceInfo[][] BY_TYPE_AND_ID = new ResourceInfo[Type.values().length][];
+
+	static {
+		for (Type type : Type.values()) {
+			int maxId = -1;
+			for (ResourceInfo info : values()) {
+				if (info.type == type) {
+					maxId = Math.max(maxId, info.id);
+				}
+			}
+			BY_TYPE_AND_ID[type.ordinal()] = new ResourceInfo[maxId + 1];
+		}
+		for (ResourceInfo info : values()) {
+			BY_TYPE_AND_ID[info.type.ordinal()][info.id] = info;
+		}
+	}
+
+	/** Data file which overrides the hardcoded stats, if it exists. .dfd is dont-freeze-data file ext */
+	private static final String DATA_FILE_LOCATION = "assets/data/resources.dfd";
+	/** Separates the resource, stat and action in a data file property key */
+	private static final String KEY_SEPARATOR = ".";
+	/** Stat name prefixing an action's framerate, eg. SNOW_BABY.framerate.MELEE */
+	private static final String FRAMERATE = "framerate";
+
 	private static final String EXT = ".atlas";
 
 	/** Resource type */
@@ -255,12 +285,85 @@ public enum ResourceInfo {
 	 * @return the info, or null if there is no info with the given type and id combination
 	 */
 	public static ResourceInfo getByTypeAndId(Type type, int id) {
-		for (ResourceInfo info : values()) {
-			if (info.getType() == type && info.getId() == id) {
-				return info;
+		ResourceInfo[] infos = BY_TYPE_AND_ID[type.ordinal()];
+		return (id >= 0 && id < infos.length) ? infos[id] : null;
+	}
+
+	/**
+	 * Overrides the hardcoded stats with those in the data file, if there is one. Each property is named after the
+	 * resource and the stat (the field name), eg:
+	 *
+	 * SNOW_BABY.speed=35
+	 * SNOW_BABY.framerate.MELEE=0.08
+	 * SNOW_MONSTER.specialOriginOffset=15,30,-30,20
+	 *
+	 * Types and ids can't be changed. Must be called before any entities are created.
+	 */
+	public static void loadData() {
+		FileHandle dataFile = AssetFiles.internal(DATA_FILE_LOCATION);
+		if (!dataFile.exists()) {
+			return;
+		}
+		Properties props = new Properties();
+		try {
+			props.load(dataFile.read());
+		} catch (IOException ioe) {
+			System.err.println("there was a problem loading resource data file props: " + ioe.toString());
+			ioe.printStackTrace(System.err);
+		}
+		for (String prop : props.stringPropertyNames()) {
+			int split = prop.indexOf(KEY_SEPARATOR);
+			if (split == -1) {
+				throw new RuntimeException("resource data property (" + prop + ") has no stat");
+			}
+			ResourceInfo info;
+			try {
+				info = valueOf(prop.substring(0, split));
+			} catch (IllegalArgumentException iae) {
+				throw new RuntimeException("resource data property (" + prop + ") is for an unknown resource");
+			}
+			info.setStat(prop.substring(split + 1), props.getProperty(prop).trim());
+		}
+	}
+
+	/**
+	 * Sets one of this resource's stats from its value in the data file.
+	 */
+	private void setStat(String stat, String value) {
+		try {
+			if (stat.startsWith(FRAMERATE + KEY_SEPARATOR)) {
+				frameRates.put(Action.valueOf(stat.substring(FRAMERATE.length() + 1)), Float.parseFloat(value));
+			} else if (stat.equals("speed")) {
+				speed = Integer.parseInt(value);
+			} else if (stat.equals("width")) {
+				width = Integer.parseInt(value);
+			} else if (stat.equals("height")) {
+				height = Integer.parseInt(value);
+			} else if (stat.equals("maxHealth")) {
+				maxHealth = Integer.parseInt(value);
+			} else if (stat.equals("meleeRangeX")) {
+				meleeRangeX = Float.parseFloat(value);
+			} else if (stat.equals("meleeRangeY")) {
+				meleeRangeY = Float.parseFloat(value);
+			} else if (stat.equals("meleeDamage")) {
+				meleeDamage = Integer.parseInt(value);
+			} else if (stat.equals("specialDamage")) {
+				specialDamage = Integer.parseInt(value);
+			} else if (stat.equals("specialRange")) {
+				specialRange = Integer.parseInt(value);
+			} else if (stat.equals("specialOriginOffset")) {
+				String[] parts = value.split(",");
+				if (parts.length != 4) {
+					throw new RuntimeException("specialOriginOffset of " + name() + " needs 4 values: " + value);
+				}
+				specialOriginOffset = new Rectangle(Float.parseFloat(parts[0].trim()), Float.parseFloat(parts[1].trim()),
+						Float.parseFloat(parts[2].trim()), Float.parseFloat(parts[3].trim()));
+			} else {
+				throw new RuntimeException("unknown stat (" + stat + ") for " + name() + " in resource data file");
 			}
+		} catch (IllegalArgumentException iae) { // also bad numbers
+			throw new RuntimeException("bad value (" + value + ") for " + name() + KEY_SEPARATOR + stat, iae);
 		}
-		return null;
 	}
 
 	public static enum Type {
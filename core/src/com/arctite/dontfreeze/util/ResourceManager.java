@@ -0,0 +1,233 @@
+package com.arctite.dontfreeze.util;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapImageLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Static class which every GL-backed object (textures, atlases, fonts, frame buffers, renderers, stages etc) should be
+ * acquired through, so that nothing is forgotten when it's no longer needed.
+ *
+ * Each resource is acquired for an owner (a screen, a chunk, or a class for application-wide resources), and lives as
+ * long as its owner does: when the owner is done with, release() disposes all of its resources at once, in the reverse
+ * order they were acquired. Owners can themselves be resources of another owner, eg. a BackgroundCache owns its frame
+ * buffers and is owned by a world. Resources with a different lifetime from the rest of an owner's should be given
+ * their own owner.
+ *
+ * Also keeps an estimate of the GPU memory used by each resource, for the debug report().
+ *
+ * All methods must be called on the GL thread.
+ */
+public class ResourceManager {
+
+	/** Name that owners which are classes are reported under */
+	private static final String APPLICATION = "application";
+
+	/**
+	 * A resource, and its estimated GPU memory.
+	 */
+	private static class Entry {
+
+		private final Disposable resource;
+		private final long bytes;
+
+		private Entry(Disposable resource, long bytes) {
+			this.resource = resource;
+			this.bytes = bytes;
+		}
+	}
+
+	/** Resources of each owner, in the order they were acquired */
+	private static IdentityHashMap<Object, ArrayList<Entry>> owned = new IdentityHashMap<Object, ArrayList<Entry>>();
+
+	/**
+	 * Registers a resource for the given owner, to be disposed when the owner is released.
+	 *
+	 * @param owner the owner of the resource
+	 * @param resource the resource
+	 * @return the resource, for convenience
+	 */
+	public static <T extends Disposable> T acquire(Object owner, T resource) {
+		ArrayList<Entry> entries = owned.get(owner);
+		if (entries == null) {
+			entries = new ArrayList<Entry>();
+			owned.put(owner, entries);
+		}
+		entries.add(new Entry(resource, estimateBytes(resource)));
+		return resource;
+	}
+
+	/**
+	 * Disposes all resources of the given owner, most recently acquired first. Does nothing if it has none.
+	 *
+	 * @param owner the owner
+	 */
+	public static void release(Object owner) {
+		ArrayList<Entry> entries = owned.remove(owner);
+		if (entries == null) {
+			return;
+		}
+		for (int i = entries.size() - 1; i >= 0; i--) {
+			entries.get(i).resource.dispose();
+		}
+	}
+
+	/**
+	 * Disposes all resources of every owner, when the game closes.
+	 */
+	public static void releaseAll() {
+		while (!owned.isEmpty()) {
+			release(owned.keySet().iterator().next());
+		}
+	}
+
+	/**
+	 * Gets the estimated GPU memory used by all live resources.
+	 *
+	 * @return bytes
+	 */
+	public static long getTotalBytes() {
+		long total = 0;
+		for (ArrayList<Entry> entries : owned.values()) {
+			for (Entry entry : entries) {
+				total += entry.bytes;
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Gets a report of all live resources: count and estimated GPU memory for each kind of owner and type of resource,
+	 * and the number of owners of each kind. Application-wide resources (owned by classes) are reported together.
+	 * Screen or chunk owners that keep growing in number are leaking.
+	 *
+	 * @return multi-line report
+	 */
+	public static String report() {
+		StringBuilder sb = new StringBuilder();
+		// owner kind to number of owners, and to resource type name to { count, bytes }
+		TreeMap<String, Integer> ownerCounts = new TreeMap<String, Integer>();
+		TreeMap<String, TreeMap<String, long[]>> kinds = new TreeMap<String, TreeMap<String, long[]>>();
+		for (Map.Entry<Object, ArrayList<Entry>> owner : owned.entrySet()) {
+			String kind = getOwnerKind(owner.getKey());
+			Integer count = ownerCounts.get(kind);
+			ownerCounts.put(kind, (count == null) ? 1 : count + 1);
+			TreeMap<String, long[]> types = kinds.get(kind);
+			if (types == null) {
+				types = new TreeMap<String, long[]>();
+				kinds.put(kind, types);
+			}
+			for (Entry entry : owner.getValue()) {
+				String type = entry.resource.getClass().getSimpleName();
+				long[] totals = types.get(type);
+				if (totals == null) {
+					totals = new long[2];
+					types.put(type, totals);
+				}
+				totals[0]++;
+				totals[1] += entry.bytes;
+			}
+		}
+		for (Map.Entry<String, TreeMap<String, long[]>> kind : kinds.entrySet()) {
+			sb.append(kind.getKey()).append(": ").append(ownerCounts.get(kind.getKey())).append(" owners\n");
+			for (Map.Entry<String, long[]> type : kind.getValue().entrySet()) {
+				long[] totals = type.getValue();
+				sb.append("  ").append(type.getKey()).append(" x").append(totals[0]).append(", ")
+						.append(totals[1] / 1024).append(" KB\n");
+			}
+		}
+		sb.append("total: ").append(getTotalBytes() / 1024).append(" KB");
+		return sb.toString();
+	}
+
+	/**
+	 * Gets the name an owner is reported under: its class, or APPLICATION for owners that are classes themselves.
+	 */
+	private static String getOwnerKind(Object owner) {
+		return (owner instanceof Class) ? APPLICATION : owner.getClass().getSimpleName();
+	}
+
+	/**
+	 * Estimates the GPU memory used by the given resource. Resources that own other resources through this class
+	 * (which are counted separately), and those whose memory is mostly vertices, count as 0.
+	 */
+	private static long estimateBytes(Disposable resource) {
+		if (resource instanceof Texture) {
+			return textureBytes((Texture) resource);
+		} else if (resource instanceof FrameBuffer) {
+			return textureBytes(((FrameBuffer) resource).getColorBufferTexture());
+		} else if (resource instanceof TextureAtlas) {
+			long bytes = 0;
+			for (Texture texture : ((TextureAtlas) resource).getTextures()) {
+				bytes += textureBytes(texture);
+			}
+			return bytes;
+		} else if (resource instanceof BitmapFont) {
+			IdentityHashMap<Texture, Boolean> textures = new IdentityHashMap<Texture, Boolean>();
+			for (TextureRegion region : ((BitmapFont) resource).getRegions()) {
+				textures.put(region.getTexture(), Boolean.TRUE);
+			}
+			return texturesBytes(textures);
+		} else if (resource instanceof TiledMap) {
+			IdentityHashMap<Texture, Boolean> textures = new IdentityHashMap<Texture, Boolean>();
+			TiledMap map = (TiledMap) resource;
+			for (TiledMapTileSet tileSet : map.getTileSets()) {
+				for (TiledMapTile tile : tileSet) {
+					textures.put(tile.getTextureRegion().getTexture(), Boolean.TRUE);
+				}
+			}
+			for (MapLayer layer : map.getLayers()) {
+				if (layer instanceof TiledMapImageLayer) {
+					textures.put(((TiledMapImageLayer) layer).getTextureRegion().getTexture(), Boolean.TRUE);
+				}
+			}
+			return texturesBytes(textures);
+		}
+		return 0;
+	}
+
+	private static long texturesBytes(IdentityHashMap<Texture, Boolean> textures) {
+		long bytes = 0;
+		for (Texture texture : textures.keySet()) {
+			bytes += textureBytes(texture);
+		}
+		return bytes;
+	}
+
+	private static long textureBytes(Texture texture) {
+		return (long) texture.getWidth() * texture.getHeight() * bytesPerPixel(texture.getTextureData().getFormat());
+	}
+
+	private static int bytesPerPixel(Pixmap.Format format) {
+		if (format == null) {
+			return 4;
+		}
+		switch (format) {
+			case Alpha:
+			case Intensity:
+				return 1;
+			case LuminanceAlpha:
+			case RGB565:
+			case RGBA4444:
+				return 2;
+			case RGB888:
+				return 3;
+			default:
+				return 4;
+		}
+	}
+}
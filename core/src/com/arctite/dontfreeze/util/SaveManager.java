@@ -27,7 +27,9 @@ public class SaveManager {
 	// camera location isn't saved anymore, just centred and adjusted accordingly
 	//public static final String CAMERA_X = "camx";
 	//public static final String CAMERA_Y = "camy";
-	/** Event settings */
+	/** Event settings, all in one string of name=value pairs */
+	public static final String EVENT_PROPERTIES = "eventprops";
+	/** Event settings in older saves, one per key after this prefix */
 	public static final String EVENT_PROPERTY_SETTING = "eventpropset";
 	/** Entity-related save key constants */
 	public static final String ACTIVE = "active"; // whether this monster/collectable is still alive/not-picked-up
@@ -45,6 +47,13 @@ public class SaveManager {
 	/** Settings constants */
 	// NOTE: when adding something here the default value must be specified in settings constructor (see below)
 	public static final String VOLUME = "volume";
+	/** Whether to stream neighbouring chunks and walk straight over borders (absent in older settings files = false) */
+	public static final String STREAM_CHUNKS = "streamchunks";
+	/** Whether loose assets edited since the asset pack was built are used over the pack's copy, for development */
+	public static final String LOOSE_ASSETS = "looseassets";
+	/** Background simulation of left chunks: ticks per second (0 = off), and most chunks simulated at once */
+	public static final String BACKGROUND_SIM_RATE = "bgsimrate";
+	public static final String BACKGROUND_SIM_CHUNKS = "bgsimchunks";
 	/** New game stuff */
 	public static final String NEW_GAME_CHUNK_X = "newgamechunkx";
 	public static final String NEW_GAME_CHUNK_Y = "newgamechunky";
@@ -109,6 +118,10 @@ public class SaveManager {
 		} else {
 			// DEFAULT SETTINGS HERE
 			setDataValue(VOLUME, 1.0F);
+			setDataValue(STREAM_CHUNKS, false);
+			setDataValue(LOOSE_ASSETS, false);
+			setDataValue(BACKGROUND_SIM_RATE, BackgroundSimulator.DEFAULT_TICK_RATE);
+			setDataValue(BACKGROUND_SIM_CHUNKS, BackgroundSimulator.DEFAULT_MAX_CHUNKS);
 			setDataValue(NEW_GAME_CHUNK_X, 0);
 			setDataValue(NEW_GAME_CHUNK_Y, 5);
 			setDataValue(NEW_GAME_PLAYER_X, 270);
@@ -128,6 +141,26 @@ public class SaveManager {
 		save = json.fromJson(Save.class, fileString);
 	}
 
+	/**
+	 * Reads the save file into a new SaveManager, leaving the game's own as it is. Can be called on any thread.
+	 *
+	 * @return SaveManager holding the save file's data
+	 */
+	public static SaveManager readSaveFile() {
+		SaveManager read = new SaveManager();
+		read.load();
+		return read;
+	}
+
+	/**
+	 * Replaces this SaveManager's data with another's, eg. a save file read ahead of time with readSaveFile().
+	 *
+	 * @param other the SaveManager to take the data of
+	 */
+	public void loadFrom(SaveManager other) {
+		save = other.save;
+	}
+
 	public static boolean saveFileExists() {
 		return Gdx.files.local(SAVE_FILE).exists();
 	}
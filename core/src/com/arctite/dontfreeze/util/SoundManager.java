@@ -4,8 +4,22 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.StreamUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.logging.FileHandler;
 
 /**
@@ -16,34 +30,81 @@ import java.util.logging.FileHandler;
 public class SoundManager {
 
 	/**
-	 * Contains list of sound ids coupled with their filename.
+	 * Contains list of sound ids coupled with their filename, how important they are, and how many of each may be
+	 * playing at once.
 	 */
 	public static enum SoundInfo {
 
-		MENU_CLICK(1, "menu_click"),
+		MENU_CLICK(1, "menu_click", 4, 1),
 
-		MONSTER_MELEE(21, "monster_melee"),
-		MONSTER_SPECIAL(22, "monster_special"),
-		MONSTER_SPECIAL_HIT(23, "monster_special_hit"),
-		MONSTER_DEATH(23, "monster_death"),
+		MONSTER_MELEE(21, "monster_melee", 1, 3),
+		MONSTER_SPECIAL(22, "monster_special", 1, 3),
+		MONSTER_SPECIAL_HIT(23, "monster_special_hit", 1, 3),
+		MONSTER_DEATH(24, "monster_death", 2, 2),
 
-		PLAYER_MELEE(94, "player_melee"),
-		PLAYER_SPECIAL(95, "player_special"),
-		PLAYER_SPECIAL_HIT(96, "player_special_hit"),
-		PLAYER_DEATH(97, "player_death"),
-		PLAYER_PICKUP_FIRE(98, "player_pickup_fire"),
+		PLAYER_MELEE(94, "player_melee", 3, 2),
+		PLAYER_SPECIAL(95, "player_special", 3, 2),
+		PLAYER_SPECIAL_HIT(96, "player_special_hit", 3, 2),
+		PLAYER_DEATH(97, "player_death", 5, 1),
+		PLAYER_PICKUP_FIRE(98, "player_pickup_fire", 4, 1),
 		;
 
 		private int id;
 		private String file;
+		/** Sounds of higher priority steal voices from lower ones when all the voices are in use */
+		private int priority;
+		/** Most of this sound that may be playing at once */
+		private int maxVoices;
 
-		private SoundInfo(int id, String file) {
+		private SoundInfo(int id, String file, int priority, int maxVoices) {
 			this.id = id;
 			this.file = file;
+			this.priority = priority;
+			this.maxVoices = maxVoices;
 		}
 	}
 
-	private static HashMap<Integer, Sound> sounds;
+	/**
+	 * A sound effect that's playing.
+	 */
+	private static class Voice {
+
+		private SoundInfo info;
+		/** Id of this instance of the sound */
+		private long id;
+		/** Time at which it started, and at which it will have finished */
+		private float startTime;
+		private float endTime;
+	}
+
+	/** Most sound effects playing at once, leaving the rest of the audio backend's sources to the music */
+	private static final int MAX_VOICES = 12;
+	/** Length assumed for a sound whose file doesn't say, in seconds */
+	private static final float DEFAULT_SOUND_LENGTH = 1.0F;
+	/** Distance from the listener within which positional sounds play at full volume, and beyond which they don't play */
+	private static final float FULL_VOLUME_RADIUS = 200;
+	private static final float AUDIBLE_RADIUS = 600;
+	/** Horizontal distance from the listener at which positional sounds are panned the most, and how far that is */
+	private static final float PAN_DISTANCE = 320; // half the window
+	private static final float MAX_PAN = 0.8F;
+
+	/** Position of the listener (the world camera) that positional sounds are heard from */
+	private static float listenerX;
+	private static float listenerY;
+
+	private static EnumMap<SoundInfo, Sound> sounds;
+	/** Length of each sound, in seconds */
+	private static EnumMap<SoundInfo, Float> soundLengths;
+	/** Sounds asked to be played since the last update(), each played at most once */
+	private static final EnumSet<SoundInfo> requested = EnumSet.noneOf(SoundInfo.class);
+	/** Gain and pan of each requested sound (by ordinal), the loudest request's if it was asked for more than once */
+	private static final float[] requestedGain = new float[SoundInfo.values().length];
+	private static final float[] requestedPan = new float[SoundInfo.values().length];
+	/** Sound effects playing, the first voiceCount of which are in use */
+	private static final Voice[] voices = new Voice[MAX_VOICES];
+	private static int voiceCount;
+	/** Time passed, by update() */
+	private static float time;
 
 	private static final String FOLDER = "assets/sound/";
 	private static final String SOUND_EXT = ".wav";
@@ -52,10 +113,31 @@ public class SoundManager {
 	/** List of music files */
 	public static final String MENU_BG_MUSIC = "menu";
 
+	/** How long a crossfade from one track to the next takes, in seconds */
+	private static final float CROSSFADE_TIME = 1.5F;
+	/** Number of opened tracks kept around (the playing ones, the neighbouring chunks', and recently played ones) */
+	private static final int MUSIC_CACHE_SIZE = 8;
+
+	/** Opened tracks by name, least recently played first */
+	private static final LinkedHashMap<String, Music> musicCache = new LinkedHashMap<String, Music>(16, 0.75F, true);
+	/** Tracks being opened on the music thread, by name (a null result means there's no such track) */
+	private static final HashMap<String, Future<Music>> opening = new HashMap<String, Future<Music>>();
+	/** Thread which opens tracks ahead of time, created when first needed */
+	private static ExecutorService musicThread;
+
+	/** Track playing (fading in, if crossfading), and its name */
 	private static Music currentMusic;
+	private static String currentMusicName;
+	/** Track fading out after being replaced, and the level it started fading out from */
+	private static Music fadingMusic;
+	private static float fadingFrom;
+	/** How far through the current crossfade we are, from 0 to 1 */
+	private static float crossfade = 1;
 
 	/** Volume level */
 	private static float volume;
+	/** Level of the screen transition fade, which scales the volume */
+	private static float fadeVolume = 1;
 
 	/**
 	 * If enabling sound and music, if there is music loaded and ready to be streamed, this method starts playing it.
@@ -68,9 +150,7 @@ public class SoundManager {
 		} else {
 			volume = 0.0F;
 		}
-		if (currentMusic != null) {
-			currentMusic.setVolume(volume);
-		}
+		updateMusicVolume();
 	}
 
 	/**
@@ -90,77 +170,517 @@ public class SoundManager {
 	}
 
 	/**
-	 * Sets the volume of the current music. Used in very short time periods (transitions).
+	 * Sets the volume level.
 	 *
 	 * @param v the volume to set to
 	 */
 	public static void setVolume(float v) {
 		volume = v;
+		updateMusicVolume();
+	}
+
+	/**
+	 * Sets the level of the screen transition fade, which sound and music are scaled by. Used in very short time periods
+	 * (transitions).
+	 *
+	 * @param v the fade level, from 0 (silent) to 1
+	 */
+	public static void setFadeVolume(float v) {
+		fadeVolume = v;
+		updateMusicVolume();
+	}
+
+	/**
+	 * Sets the volume of the playing tracks, from the volume, the transition fade and the crossfade.
+	 */
+	private static void updateMusicVolume() {
+		float level = volume * fadeVolume;
 		if (currentMusic != null) {
-			currentMusic.setVolume(volume);
+			currentMusic.setVolume(level * crossfade);
+		}
+		if (fadingMusic != null) {
+			fadingMusic.setVolume(level * fadingFrom * (1 - crossfade));
+		}
+	}
+
+	/**
+	 * Plays the sounds requested since the last update, advances the crossfade, and picks up tracks that have finished
+	 * being opened. Called every frame.
+	 *
+	 * @param delta time passed (in seconds) since last frame
+	 */
+	public static void update(float delta) {
+		time += delta;
+		playRequested();
+		if (crossfade < 1) {
+			crossfade = Math.min(1, crossfade + delta / CROSSFADE_TIME);
+			if (crossfade >= 1 && fadingMusic != null) {
+				fadingMusic.stop();
+				fadingMusic = null;
+			}
+			updateMusicVolume();
+		}
+		// move opened tracks into the cache, so that they count towards its size
+		Iterator<Map.Entry<String, Future<Music>>> it = opening.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<String, Future<Music>> entry = it.next();
+			if (entry.getValue().isDone()) {
+				it.remove();
+				Music music = getOpened(entry.getKey(), entry.getValue());
+				if (music != null) {
+					cacheMusic(entry.getKey(), music);
+				}
+			}
 		}
 	}
 
 	/**
-	 * Stops the current music which is playing and disposes of the resources.
+	 * Stops the music which is playing, straight away.
 	 */
 	public static void stopCurrentMusic() {
 		if (currentMusic != null) {
 			currentMusic.stop();
-			currentMusic.dispose();
 			currentMusic = null;
+			currentMusicName = null;
 		}
+		if (fadingMusic != null) {
+			fadingMusic.stop();
+			fadingMusic = null;
+		}
+		crossfade = 1;
 	}
 
 	/**
-	 * Plays the music file with the given name.
+	 * Plays the music file with the given name, crossfading from whatever is playing. If it's already playing, it
+	 * carries on.
 	 *
 	 * @param file the name of the music file
 	 */
 	public static void playMusic(String file) {
-		currentMusic = Gdx.audio.newMusic(Gdx.files.internal(FOLDER + file + MUSIC_EXT));
-		currentMusic.setLooping(true);
-		currentMusic.setVolume(volume);
-		currentMusic.play();
+		if (!changeMusic(file)) {
+			throw new RuntimeException("music (" + file + ") not found");
+		}
 	}
 
 	/**
-	 * Plays the music file for the given chunk, or outputs a message if no music has been assigned yet
+	 * Plays the music file for the given chunk, or outputs a message if no music has been assigned yet (and fades out
+	 * whatever is playing).
 	 * @param chunkX the x coordinate of the chunk to play music for
 	 * @param chunkY the y coordinate of the chunk to play music for
 	 */
 	public static void playMusic(int chunkX, int chunkY) {
-		String file = chunkX + "_" + chunkY;
-		FileHandle musicFile = Gdx.files.internal(FOLDER + file + MUSIC_EXT);
-		if (musicFile.exists()) {
-			currentMusic = Gdx.audio.newMusic(musicFile);
-			currentMusic.setLooping(true);
-			currentMusic.setVolume(volume);
-			currentMusic.play();
-		} else {
+		if (!changeMusic(getChunkMusic(chunkX, chunkY))) {
 			System.out.printf("chunk (%d, %d) has no assigned music\n", chunkX, chunkY);
 		}
 	}
 
+	/**
+	 * Starts opening the music for the given chunk in the background, if it has any, so that it's ready to play.
+	 *
+	 * @param chunkX the x coordinate of the chunk
+	 * @param chunkY the y coordinate of the chunk
+	 */
+	public static void prefetchMusic(int chunkX, int chunkY) {
+		prefetchMusic(getChunkMusic(chunkX, chunkY));
+	}
+
+	/**
+	 * Starts opening the music for the chunks next to the given one, so that walking into them doesn't have to.
+	 *
+	 * @param chunkX the x coordinate of the chunk
+	 * @param chunkY the y coordinate of the chunk
+	 */
+	public static void prefetchNeighbourMusic(int chunkX, int chunkY) {
+		prefetchMusic(chunkX - 1, chunkY);
+		prefetchMusic(chunkX + 1, chunkY);
+		prefetchMusic(chunkX, chunkY - 1);
+		prefetchMusic(chunkX, chunkY + 1);
+	}
+
+	/**
+	 * Starts opening the given track on the music thread, unless it's already open or being opened.
+	 *
+	 * @param name name of the music file
+	 */
+	public static void prefetchMusic(final String name) {
+		if (musicCache.containsKey(name) || opening.containsKey(name)) {
+			return;
+		}
+		if (musicThread == null) {
+			musicThread = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "music");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		opening.put(name, musicThread.submit(new Callable<Music>() {
+			@Override
+			public Music call() {
+				return openMusic(name);
+			}
+		}));
+	}
+
+	/**
+	 * Crossfades to the given track.
+	 *
+	 * @param name name of the music file, which may not exist
+	 * @return false if there is no such track, in which case the music fades out
+	 */
+	private static boolean changeMusic(String name) {
+		if (name.equals(currentMusicName)) {
+			return true; // already playing
+		}
+		Music next = getMusic(name);
+		if (next != null && next == fadingMusic) {
+			// going back to the track being faded out: turn the crossfade around
+			fadingMusic = currentMusic;
+			fadingFrom = 1;
+			crossfade = 1 - crossfade;
+		} else {
+			if (fadingMusic != null) { // a crossfade was still going, so cut its old track
+				fadingMusic.stop();
+			}
+			fadingMusic = currentMusic;
+			fadingFrom = crossfade;
+			crossfade = 0;
+		}
+		currentMusic = next;
+		currentMusicName = (next == null) ? null : name;
+		updateMusicVolume();
+		if (next != null && !next.isPlaying()) {
+			next.setLooping(true);
+			next.play();
+		}
+		return next != null;
+	}
+
+	/**
+	 * Gets the given track: from the cache, from the music thread (waiting for it to finish opening it), or opened now.
+	 *
+	 * @return the track, or null if there is no such music file
+	 */
+	private static Music getMusic(String name) {
+		Music music = musicCache.get(name);
+		if (music != null) {
+			return music;
+		}
+		Future<Music> pending = opening.remove(name);
+		music = (pending != null) ? getOpened(name, pending) : openMusic(name);
+		if (music != null) {
+			cacheMusic(name, music);
+		}
+		return music;
+	}
+
+	/**
+	 * Opens the given track. Can be called on any thread, since opening a track only reads the start of the file:
+	 * the audio backend doesn't take it on until it's played.
+	 *
+	 * @return the track, or null if there is no such music file
+	 */
+	private static Music openMusic(String name) {
+		FileHandle file = AssetFiles.internal(FOLDER + name + MUSIC_EXT);
+		return file.exists() ? Gdx.audio.newMusic(file) : null;
+	}
+
+	/**
+	 * Gets the result of opening a track on the music thread, waiting for it if need be.
+	 */
+	private static Music getOpened(String name, Future<Music> pending) {
+		try {
+			return pending.get();
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException("couldn't open music (" + name + ")", e.getCause());
+		}
+	}
+
+	/**
+	 * Adds a track to the cache, disposing of the least recently played ones that aren't playing if it's full.
+	 */
+	private static void cacheMusic(String name, Music music) {
+		musicCache.put(name, music);
+		Iterator<Music> it = musicCache.values().iterator();
+		while (musicCache.size() > MUSIC_CACHE_SIZE && it.hasNext()) {
+			Music old = it.next();
+			if (old != music && old != currentMusic && old != fadingMusic) {
+				it.remove();
+				old.stop();
+				old.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Gets the name of the music file for the given chunk.
+	 */
+	private static String getChunkMusic(int chunkX, int chunkY) {
+		return chunkX + "_" + chunkY;
+	}
+
+	/**
+	 * Stops and disposes of all music and sounds. Called when the game closes.
+	 */
+	public static void dispose() {
+		if (musicThread != null) {
+			musicThread.shutdownNow();
+		}
+		stopCurrentMusic();
+		for (Music music : musicCache.values()) {
+			music.dispose();
+		}
+		musicCache.clear();
+		if (sounds != null) {
+			for (Sound sound : sounds.values()) {
+				sound.dispose();
+			}
+			sounds.clear();
+		}
+		requested.clear();
+		voiceCount = 0;
+	}
+
 	/**
 	 * Loads all sounds into memory.
 	 */
 	public static void loadSounds() {
-		sounds = new HashMap<Integer, Sound>();
 		for (SoundInfo s : SoundInfo.values()) {
-			sounds.put(s.id, Gdx.audio.newSound(Gdx.files.internal(FOLDER + s.file + SOUND_EXT)));
+			addSound(s, loadSound(s), loadLength(s));
 		}
 	}
 
 	/**
-	 * Plays the given sound.
+	 * Loads and decodes the given sound, without adding it. Can be called on a worker thread (OpenAL contexts are
+	 * process-wide).
+	 *
+	 * @param s the sound to load
+	 * @return the loaded sound
+	 */
+	public static Sound loadSound(SoundInfo s) {
+		return Gdx.audio.newSound(AssetFiles.internal(FOLDER + s.file + SOUND_EXT));
+	}
+
+	/**
+	 * Works out the length of the given sound from its file. Can be called on a worker thread, alongside loadSound().
+	 *
+	 * @param s the sound
+	 * @return length in seconds
+	 */
+	public static float loadLength(SoundInfo s) {
+		return readLength(AssetFiles.internal(FOLDER + s.file + SOUND_EXT));
+	}
+
+	/**
+	 * Adds a sound loaded with loadSound(), so that it can be played. Must be called on the GL thread.
+	 *
+	 * @param s the sound
+	 * @param sound the loaded sound
+	 * @param length length of the sound in seconds, from loadLength()
+	 */
+	public static void addSound(SoundInfo s, Sound sound, float length) {
+		if (sounds == null) {
+			sounds = new EnumMap<SoundInfo, Sound>(SoundInfo.class);
+			soundLengths = new EnumMap<SoundInfo, Float>(SoundInfo.class);
+		}
+		sounds.put(s, sound);
+		soundLengths.put(s, length);
+	}
+
+	/**
+	 * Works out the length of a wav file from its header and size.
+	 *
+	 * @return length in seconds, or DEFAULT_SOUND_LENGTH if the header can't be read
+	 */
+	private static float readLength(FileHandle file) {
+		byte[] header = new byte[44];
+		InputStream in = null;
+		try {
+			in = file.read();
+			int read = 0;
+			int n;
+			while (read < header.length && (n = in.read(header, read, header.length - read)) != -1) {
+				read += n;
+			}
+			if (read < header.length) {
+				return DEFAULT_SOUND_LENGTH;
+			}
+		} catch (IOException e) {
+			return DEFAULT_SOUND_LENGTH;
+		} finally {
+			StreamUtils.closeQuietly(in);
+		}
+		// bytes per second is at 28 in the canonical header, little-endian
+		int byteRate = (header[28] & 0xFF) | (header[29] & 0xFF) << 8 | (header[30] & 0xFF) << 16
+				| (header[31] & 0xFF) << 24;
+		if (byteRate <= 0) {
+			return DEFAULT_SOUND_LENGTH;
+		}
+		return (file.length() - header.length) / (float) byteRate;
+	}
+
+	/**
+	 * Asks for the given sound to be played. It's played at the end of the frame, along with any other sounds asked
+	 * for, so that many entities doing the same thing at once only play it once, and only so many sounds play at once.
 	 *
 	 * Sounds are played at (volume / 2) as opposed to music which is played at full volume.
 	 *
 	 * @param si the SoundInfo enum instance representing the sound to be played
 	 */
 	public static void playSound(SoundInfo si) {
-		sounds.get(si.id).play(volume / 2);
+		request(si, 1, 0);
+	}
+
+	/**
+	 * Asks for the given sound to be played from the given position in the world, panned and quietened by its
+	 * distance from the listener. If it's beyond AUDIBLE_RADIUS, it isn't played at all.
+	 *
+	 * @param si the SoundInfo enum instance representing the sound to be played
+	 * @param x x coordinate of the sound's source
+	 * @param y y coordinate of the sound's source
+	 */
+	public static void playSound(SoundInfo si, float x, float y) {
+		float dx = x - listenerX;
+		float dy = y - listenerY;
+		float dist2 = dx * dx + dy * dy;
+		if (dist2 > AUDIBLE_RADIUS * AUDIBLE_RADIUS) {
+			return;
+		}
+		float gain = 1;
+		if (dist2 > FULL_VOLUME_RADIUS * FULL_VOLUME_RADIUS) {
+			// linear falloff, to silence at the audible radius
+			gain = 1 - ((float) Math.sqrt(dist2) - FULL_VOLUME_RADIUS) / (AUDIBLE_RADIUS - FULL_VOLUME_RADIUS);
+		}
+		float pan = Math.max(-1, Math.min(1, dx / PAN_DISTANCE)) * MAX_PAN;
+		request(si, gain, pan);
+	}
+
+	/**
+	 * Records a request for a sound, keeping the loudest if it's already been asked for this frame.
+	 */
+	private static void request(SoundInfo si, float gain, float pan) {
+		int i = si.ordinal();
+		if (!requested.contains(si) || gain > requestedGain[i]) {
+			requestedGain[i] = gain;
+			requestedPan[i] = pan;
+		}
+		requested.add(si);
+	}
+
+	/**
+	 * Sets where positional sounds are heard from. Called by the world as its camera moves.
+	 *
+	 * @param x x coordinate of the listener
+	 * @param y y coordinate of the listener
+	 */
+	public static void setListener(float x, float y) {
+		listenerX = x;
+		listenerY = y;
+	}
+
+	/**
+	 * Plays the sounds requested this frame, most important first, finding each a voice.
+	 */
+	private static void playRequested() {
+		if (requested.isEmpty()) {
+			return;
+		}
+		releaseFinishedVoices();
+		// find the requested sounds a voice each, from highest priority down
+		while (!requested.isEmpty()) {
+			SoundInfo next = null;
+			for (SoundInfo si : requested) {
+				if (next == null || si.priority > next.priority) {
+					next = si;
+				}
+			}
+			requested.remove(next);
+			if (sounds != null && sounds.containsKey(next)) {
+				play(next);
+			}
+		}
+	}
+
+	/**
+	 * Plays the given sound in a free voice, stealing one if need be: its own oldest voice if it's already playing as
+	 * many times as it may, otherwise the oldest voice of the lowest priority sound playing, if that's no more
+	 * important. Otherwise, it isn't played.
+	 */
+	private static void play(SoundInfo si) {
+		Voice steal = null;
+		int playing = 0;
+		for (int i = 0; i < voiceCount; i++) {
+			Voice voice = voices[i];
+			if (voice.info == si) {
+				playing++;
+				if (steal == null || voice.startTime < steal.startTime) {
+					steal = voice;
+				}
+			}
+		}
+		if (playing < si.maxVoices) {
+			steal = null;
+			if (voiceCount == MAX_VOICES) {
+				for (int i = 0; i < voiceCount; i++) {
+					Voice voice = voices[i];
+					if (voice.info.priority <= si.priority && (steal == null || voice.info.priority < steal.info.priority
+							|| (voice.info.priority == steal.info.priority && voice.startTime < steal.startTime))) {
+						steal = voice;
+					}
+				}
+				if (steal == null) {
+					return; // everything playing is more important
+				}
+			}
+		}
+		if (steal != null) {
+			sounds.get(steal.info).stop(steal.id);
+			releaseVoice(steal);
+		}
+		int r = si.ordinal();
+		long id = sounds.get(si).play(volume * fadeVolume / 2 * requestedGain[r], 1, requestedPan[r]);
+		if (id == -1) {
+			return; // the audio backend has no source free
+		}
+		Voice voice = voices[voiceCount];
+		if (voice == null) {
+			voice = voices[voiceCount] = new Voice();
+		}
+		voiceCount++;
+		voice.info = si;
+		voice.id = id;
+		voice.startTime = time;
+		voice.endTime = time + soundLengths.get(si);
+	}
+
+	/**
+	 * Frees the voices of sounds that have finished playing.
+	 */
+	private static void releaseFinishedVoices() {
+		for (int i = voiceCount - 1; i >= 0; i--) {
+			if (voices[i].endTime <= time) {
+				releaseVoice(voices[i]);
+			}
+		}
+	}
+
+	/**
+	 * Frees the given voice, swapping the last voice in use into its place.
+	 */
+	private static void releaseVoice(Voice voice) {
+		for (int i = 0; i < voiceCount; i++) {
+			if (voices[i] == voice) {
+				voiceCount--;
+				voices[i] = voices[voiceCount];
+				voices[voiceCount] = voice;
+				voice.info = null;
+				return;
+			}
+		}
 	}
 
 	/**
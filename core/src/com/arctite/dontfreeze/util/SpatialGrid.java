@@ -0,0 +1,149 @@
+package com.arctite.dontfreeze.util;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Uniform grid spatial index over a fixed area (ie. one map chunk), for looking up the items whose bounds overlap a
+ * given area without checking every item.
+ *
+ * Items are registered once with their bounding rectangle and are expected to stay still (terrain, events etc.) -
+ * there is no support for moving or removing items.
+ */
+public class SpatialGrid<T> {
+
+	/** Bottom-left of the grid area, and size of the grid area and its cells */
+	private final float originX;
+	private final float originY;
+	private final int cellSize;
+	private final int cols;
+	private final int rows;
+
+	/** Indices of the items whose bounds overlap each cell, by (row * cols + col) */
+	private final IntArray[] cells;
+	/** All items and their bounds, by index */
+	private final List<T> items;
+	private final List<Rectangle> bounds;
+	/** Query number each item was last returned by, so that items spanning multiple cells are only returned once */
+	private int[] lastQuery;
+	private int queryCount;
+
+	/**
+	 * Creates an empty SpatialGrid covering the area (0, 0) to (width, height). Items outside this area are clamped to
+	 * the edge cells.
+	 *
+	 * @param width width of the area
+	 * @param height height of the area
+	 * @param cellSize width and height of each cell
+	 */
+	public SpatialGrid(int width, int height, int cellSize) {
+		this(0, 0, width, height, cellSize);
+	}
+
+	/**
+	 * Creates an empty SpatialGrid covering the area (x, y) to (x + width, y + height), eg. a window of several map
+	 * chunks around the current one. Items outside this area are clamped to the edge cells.
+	 *
+	 * @param x left of the area
+	 * @param y bottom of the area
+	 * @param width width of the area
+	 * @param height height of the area
+	 * @param cellSize width and height of each cell
+	 */
+	public SpatialGrid(float x, float y, int width, int height, int cellSize) {
+		this.originX = x;
+		this.originY = y;
+		this.cellSize = cellSize;
+		this.cols = Math.max(1, (width + cellSize - 1) / cellSize);
+		this.rows = Math.max(1, (height + cellSize - 1) / cellSize);
+		this.cells = new IntArray[cols * rows];
+		this.items = new ArrayList<T>();
+		this.bounds = new ArrayList<Rectangle>();
+		this.lastQuery = new int[0];
+	}
+
+	/**
+	 * Adds an item to this grid.
+	 *
+	 * @param item the item
+	 * @param area bounding rectangle of the item (not copied, so must not be changed afterwards)
+	 */
+	public void add(T item, Rectangle area) {
+		int index = items.size();
+		items.add(item);
+		bounds.add(area);
+		int minCol = col(area.x);
+		int maxCol = col(area.x + area.width);
+		int minRow = row(area.y);
+		int maxRow = row(area.y + area.height);
+		for (int r = minRow; r <= maxRow; r++) {
+			for (int c = minCol; c <= maxCol; c++) {
+				int cell = r * cols + c;
+				if (cells[cell] == null) {
+					cells[cell] = new IntArray(false, 4);
+				}
+				cells[cell].add(index);
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of items in this grid.
+	 *
+	 * @return number of items
+	 */
+	public int size() {
+		return items.size();
+	}
+
+	/**
+	 * Finds all items whose bounding rectangles overlap the given area, and adds them to the given list. Each item is
+	 * added at most once.
+	 *
+	 * @param area the area to check
+	 * @param out list to add overlapping items to (not cleared beforehand)
+	 */
+	public void query(Rectangle area, List<T> out) {
+		if (lastQuery.length != items.size()) {
+			lastQuery = new int[items.size()]; // items were added since the last query
+			queryCount = 0;
+		}
+		queryCount++;
+		int minCol = col(area.x);
+		int maxCol = col(area.x + area.width);
+		int minRow = row(area.y);
+		int maxRow = row(area.y + area.height);
+		for (int r = minRow; r <= maxRow; r++) {
+			for (int c = minCol; c <= maxCol; c++) {
+				IntArray cell = cells[r * cols + c];
+				if (cell == null) {
+					continue;
+				}
+				for (int i = 0; i < cell.size; i++) {
+					int index = cell.items[i];
+					if (lastQuery[index] != queryCount && bounds.get(index).overlaps(area)) {
+						lastQuery[index] = queryCount;
+						out.add(items.get(index));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the column of the cell containing the given x-coordinate, clamped to the grid.
+	 */
+	private int col(float x) {
+		return Math.min(cols - 1, Math.max(0, (int) Math.floor((x - originX) / cellSize)));
+	}
+
+	/**
+	 * Gets the row of the cell containing the given y-coordinate, clamped to the grid.
+	 */
+	private int row(float y) {
+		return Math.min(rows - 1, Math.max(0, (int) Math.floor((y - originY) / cellSize)));
+	}
+}
@@ -0,0 +1,216 @@
+package com.arctite.dontfreeze.util;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Loads everything the game needs at startup, while the LoadingScreen is up. The CPU side of loading (file reading,
+ * image decoding, parsing) is done in parallel on a pool of worker threads, and each job hands back the GL side of its
+ * work (texture uploads etc) as small tasks, which update() runs on the GL thread a few milliseconds per frame.
+ *
+ * Textures and atlases loaded by path are kept until taken with take(). Anything not taken is disposed along with the
+ * loader.
+ */
+public class StartupLoader implements Disposable {
+
+	/** Worker threads, leaving a core for the GL thread */
+	private static final int WORKERS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+	private final ExecutorService pool;
+	/** Jobs that haven't finished yet, and how many were submitted in total */
+	private final ArrayList<Future<List<Runnable>>> pending;
+	private int jobCount;
+	/** GL tasks handed back by finished jobs, yet to be run, and how many have been run */
+	private final LinkedList<Runnable> glTasks;
+	private int glTasksRun;
+	/** Loaded textures and atlases, by path */
+	private final HashMap<String, Disposable> loaded;
+	/** Furthest progress reported, so that it never goes backwards as new GL tasks come in */
+	private float progress;
+
+	/**
+	 * Creates a StartupLoader and its worker threads.
+	 */
+	public StartupLoader() {
+		this.pool = Executors.newFixedThreadPool(WORKERS, new ThreadFactory() {
+			private int count;
+
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "startup-" + (count++));
+				thread.setDaemon(true); // never keeps the game open
+				return thread;
+			}
+		});
+		this.pending = new ArrayList<Future<List<Runnable>>>();
+		this.glTasks = new LinkedList<Runnable>();
+		this.loaded = new HashMap<String, Disposable>();
+	}
+
+	/**
+	 * Submits a job to run on a worker thread. The job returns the GL tasks that finish its work (in order), or an
+	 * empty list if there are none.
+	 *
+	 * @param job the job
+	 */
+	public void submit(Callable<List<Runnable>> job) {
+		pending.add(pool.submit(job));
+		jobCount++;
+	}
+
+	/**
+	 * Loads a texture: the image is decoded on a worker thread, then uploaded on the GL thread. Get it with take().
+	 *
+	 * @param path path of the image
+	 */
+	public void loadTexture(final String path) {
+		submit(new Callable<List<Runnable>>() {
+			@Override
+			public List<Runnable> call() {
+				final Pixmap pixmap = new Pixmap(AssetFiles.internal(path));
+				return Collections.<Runnable>singletonList(new Runnable() {
+					@Override
+					public void run() {
+						loaded.put(path, new Texture(pixmap));
+						pixmap.dispose();
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Loads an atlas: the descriptor is parsed and the page images decoded on a worker thread, then each page is
+	 * uploaded on the GL thread as a separate task. Get it with take().
+	 *
+	 * @param path path of the atlas descriptor
+	 */
+	public void loadAtlas(final String path) {
+		submit(new Callable<List<Runnable>>() {
+			@Override
+			public List<Runnable> call() {
+				FileHandle file = AssetFiles.internal(path);
+				final TextureAtlasData data = new TextureAtlasData(file, file.parent(), false);
+				List<Runnable> tasks = new ArrayList<Runnable>();
+				for (final TextureAtlasData.Page page : data.getPages()) {
+					final Pixmap pixmap = new Pixmap(page.textureFile);
+					tasks.add(new Runnable() {
+						@Override
+						public void run() {
+							// the atlas will use this texture as it is, setting its filter and wrap
+							page.texture = new Texture(pixmap, page.format, page.useMipMaps);
+							pixmap.dispose();
+						}
+					});
+				}
+				tasks.add(new Runnable() {
+					@Override
+					public void run() {
+						loaded.put(path, new TextureAtlas(data));
+					}
+				});
+				return tasks;
+			}
+		});
+	}
+
+	/**
+	 * Collects the GL tasks of finished jobs, and runs as many GL tasks as fit in the given time budget (at least
+	 * one). Must be called on the GL thread, while the sprite batch is not drawing.
+	 *
+	 * @param budgetNanos time in nanoseconds that may be spent
+	 * @return whether everything has finished loading
+	 */
+	public boolean update(long budgetNanos) {
+		long start = System.nanoTime();
+		for (int i = 0; i < pending.size(); i++) {
+			Future<List<Runnable>> job = pending.get(i);
+			if (job.isDone()) {
+				glTasks.addAll(getResult(job));
+				pending.remove(i--);
+			}
+		}
+		while (!glTasks.isEmpty()) {
+			glTasks.removeFirst().run();
+			glTasksRun++;
+			if (System.nanoTime() - start >= budgetNanos) {
+				break;
+			}
+		}
+		return isDone();
+	}
+
+	/**
+	 * Gets the result of a finished job, rethrowing anything it threw on this thread.
+	 */
+	private static List<Runnable> getResult(Future<List<Runnable>> job) {
+		try {
+			return job.get();
+		} catch (InterruptedException e) {
+			throw new GdxRuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new GdxRuntimeException("startup loading failed", e.getCause());
+		}
+	}
+
+	public boolean isDone() {
+		return pending.isEmpty() && glTasks.isEmpty();
+	}
+
+	/**
+	 * Gets roughly how far through loading we are.
+	 *
+	 * @return progress, from 0 to 1
+	 */
+	public float getProgress() {
+		if (isDone()) {
+			return 1;
+		}
+		// each unfinished job counts for itself and (at least) one GL task to come
+		int done = (jobCount - pending.size()) + glTasksRun;
+		int total = jobCount + glTasksRun + glTasks.size() + pending.size();
+		progress = Math.max(progress, done / (float) total);
+		return progress;
+	}
+
+	/**
+	 * Takes a loaded texture or atlas. The caller is now responsible for disposing it.
+	 *
+	 * @param path path it was loaded with
+	 * @param type Texture or TextureAtlas
+	 * @return the resource, or null if it wasn't loaded (or was already taken)
+	 */
+	public <T extends Disposable> T take(String path, Class<T> type) {
+		Disposable resource = loaded.remove(path);
+		return (resource == null) ? null : type.cast(resource);
+	}
+
+	/**
+	 * Stops the worker threads, and disposes anything that was loaded but never taken.
+	 */
+	@Override
+	public void dispose() {
+		pool.shutdownNow();
+		for (Disposable resource : loaded.values()) {
+			resource.dispose();
+		}
+		loaded.clear();
+	}
+}
@@ -0,0 +1,100 @@
+package com.arctite.dontfreeze.desktop;
+
+import com.arctite.dontfreeze.util.AssetFiles;
+import com.arctite.dontfreeze.util.AssetPack;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Build-time tool which packs every file under the assets directory into one AssetPack, at AssetFiles.PACK_FILE. See
+ * AssetPack for the format.
+ *
+ * Run with the gradle task desktop:packAssets, or with the working directory of the game as the only argument.
+ */
+public class AssetPackBuilder {
+
+	/** Directory that is packed, relative to the working directory */
+	private static final String ASSETS_DIR = "assets";
+
+	public static void main(String[] args) throws IOException {
+		File root = new File(args.length > 0 ? args[0] : ".");
+
+		// every asset, by path relative to the working directory, sorted so that the pack is reproducible
+		ArrayList<String> paths = new ArrayList<String>();
+		collect(new File(root, ASSETS_DIR), ASSETS_DIR, paths);
+		Collections.sort(paths);
+
+		// work out where each asset's data will go, after the index
+		ArrayList<byte[]> pathBytes = new ArrayList<byte[]>();
+		long offset = 8; // magic and count
+		for (String path : paths) {
+			byte[] bytes = path.getBytes(AssetPack.CHARSET);
+			pathBytes.add(bytes);
+			offset += 2 + bytes.length + 8;
+		}
+		long[] offsets = new long[paths.size()];
+		long[] lengths = new long[paths.size()];
+		for (int i = 0; i < paths.size(); i++) {
+			offsets[i] = offset;
+			lengths[i] = new File(root, paths.get(i)).length();
+			offset += lengths[i];
+		}
+		if (offset > Integer.MAX_VALUE) {
+			throw new IOException("assets are too large for one pack: " + offset + " bytes");
+		}
+
+		File packFile = new File(root, AssetFiles.PACK_FILE);
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(packFile)));
+		try {
+			out.writeInt(AssetPack.MAGIC);
+			out.writeInt(paths.size());
+			for (int i = 0; i < paths.size(); i++) {
+				out.writeShort(pathBytes.get(i).length);
+				out.write(pathBytes.get(i));
+				out.writeInt((int) offsets[i]);
+				out.writeInt((int) lengths[i]);
+			}
+			byte[] buffer = new byte[64 * 1024];
+			for (String path : paths) {
+				InputStream in = new FileInputStream(new File(root, path));
+				try {
+					int n;
+					while ((n = in.read(buffer)) != -1) {
+						out.write(buffer, 0, n);
+					}
+				} finally {
+					in.close();
+				}
+			}
+		} finally {
+			out.close();
+		}
+		System.out.println("packed " + paths.size() + " assets (" + (offset / 1024) + " KB) into " + packFile);
+	}
+
+	/**
+	 * Adds the paths of all files under the given directory.
+	 */
+	private static void collect(File dir, String path, ArrayList<String> paths) {
+		File[] files = dir.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			String childPath = path + "/" + file.getName();
+			if (file.isDirectory()) {
+				collect(file, childPath, paths);
+			} else {
+				paths.add(childPath);
+			}
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package com.arctite.dontfreeze.desktop;
+
+import com.arctite.dontfreeze.util.AtlasManager;
+import com.arctite.dontfreeze.util.ResourceInfo;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+
+/**
+ * Build-time tool which merges the atlases of every ResourceInfo (collectables, entities, projectiles and animated
+ * obstacles) into one atlas with a few large pages, at AtlasManager.PACKED_ATLAS. Region names are prefixed with the
+ * resource name so AtlasManager can split them back up.
+ *
+ * Regions are copied as they are packed in the source atlases (including any whitespace stripping and rotation), and
+ * placed onto the new pages in rows, tallest first. Regions from pages with different texture filters are kept on
+ * separate pages, so that each keeps its filtering.
+ *
+ * Run with the gradle task desktop:packEntities, or with the assets directory as the only argument.
+ */
+public class EntityAtlasPacker {
+
+	/** Maximum page dimensions */
+	private static final int MAX_PAGE_SIZE = 2048;
+	/** Gap between regions, so that linear filtering doesn't bleed neighbouring frames in */
+	private static final int PADDING = 2;
+
+	/**
+	 * A region read from a source atlas, along with its pixels.
+	 */
+	private static class Frame {
+
+		private String name;
+		private Region region;
+		private BufferedImage image;
+		private String filter; // "min,mag" of the source page
+		private int page;
+		private int x;
+		private int y;
+
+		private Frame(String name, Region region, BufferedImage image) {
+			this.name = name;
+			this.region = region;
+			this.image = image;
+			this.filter = region.page.minFilter + "," + region.page.magFilter;
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		File root = new File(args.length > 0 ? args[0] : ".");
+
+		// read every frame of every resource
+		ArrayList<Frame> frames = new ArrayList<Frame>();
+		HashMap<File, BufferedImage> pageImages = new HashMap<File, BufferedImage>();
+		for (ResourceInfo info : ResourceInfo.values()) {
+			File atlasFile = new File(root, info.getLocation());
+			if (!atlasFile.exists()) {
+				System.out.println("skipping " + info + ", no atlas at " + atlasFile);
+				continue;
+			}
+			FileHandle atlasHandle = new FileHandle(atlasFile);
+			TextureAtlasData data = new TextureAtlasData(atlasHandle, atlasHandle.parent(), false);
+			for (Page page : data.getPages()) {
+				File pageFile = page.textureFile.file();
+				if (!pageImages.containsKey(pageFile)) {
+					pageImages.put(pageFile, ImageIO.read(pageFile));
+				}
+			}
+			for (Region region : data.getRegions()) {
+				BufferedImage pageImage = pageImages.get(region.page.textureFile.file());
+				int w = region.rotate ? region.height : region.width;
+				int h = region.rotate ? region.width : region.height;
+				BufferedImage image = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+				image.getGraphics().drawImage(pageImage.getSubimage(region.left, region.top, w, h), 0, 0, null);
+				frames.add(new Frame(AtlasManager.getPrefix(info) + region.name, region, image));
+			}
+		}
+		if (frames.isEmpty()) {
+			throw new RuntimeException("no resource atlases found under " + root.getAbsolutePath());
+		}
+
+		// place frames in rows, grouped by filter and tallest first
+		Collections.sort(frames, new Comparator<Frame>() {
+			@Override
+			public int compare(Frame f1, Frame f2) {
+				int byFilter = f1.filter.compareTo(f2.filter);
+				return (byFilter != 0) ? byFilter : f2.image.getHeight() - f1.image.getHeight();
+			}
+		});
+		ArrayList<Integer> pageHeights = new ArrayList<Integer>();
+		ArrayList<String> pageFilters = new ArrayList<String>();
+		int page = -1;
+		int x = 0;
+		int y = 0;
+		int rowHeight = 0;
+		for (Frame frame : frames) {
+			int w = frame.image.getWidth();
+			int h = frame.image.getHeight();
+			if (w > MAX_PAGE_SIZE || h > MAX_PAGE_SIZE) {
+				throw new RuntimeException("frame " + frame.name + " is larger than the maximum page size");
+			}
+			boolean newPage = (page == -1) || !frame.filter.equals(pageFilters.get(page));
+			if (!newPage && x + w > MAX_PAGE_SIZE) { // next row
+				x = 0;
+				y += rowHeight + PADDING;
+				rowHeight = 0;
+			}
+			if (newPage || y + h > MAX_PAGE_SIZE) { // next page
+				if (page != -1) {
+					pageHeights.add(y + rowHeight);
+				}
+				pageFilters.add(frame.filter);
+				page++;
+				x = 0;
+				y = 0;
+				rowHeight = 0;
+			}
+			frame.page = page;
+			frame.x = x;
+			frame.y = y;
+			x += w + PADDING;
+			rowHeight = Math.max(rowHeight, h);
+		}
+		pageHeights.add(y + rowHeight);
+
+		// draw pages and write atlas file
+		File atlasFile = new File(root, AtlasManager.PACKED_ATLAS);
+		atlasFile.getParentFile().mkdirs();
+		String baseName = atlasFile.getName().substring(0, atlasFile.getName().lastIndexOf('.'));
+		PrintWriter writer = new PrintWriter(atlasFile, "UTF-8");
+		for (int p = 0; p < pageHeights.size(); p++) {
+			int height = nextPowerOfTwo(pageHeights.get(p));
+			BufferedImage pageImage = new BufferedImage(MAX_PAGE_SIZE, height, BufferedImage.TYPE_INT_ARGB);
+			String pageName = baseName + (p == 0 ? "" : p + 1) + ".png";
+			writer.println();
+			writer.println(pageName);
+			writer.println("size: " + MAX_PAGE_SIZE + "," + height);
+			writer.println("format: RGBA8888");
+			writer.println("filter: " + pageFilters.get(p));
+			writer.println("repeat: none");
+			for (Frame frame : frames) {
+				if (frame.page != p) {
+					continue;
+				}
+				pageImage.getGraphics().drawImage(frame.image, frame.x, frame.y, null);
+				Region r = frame.region;
+				writer.println(frame.name);
+				writer.println("  rotate: " + r.rotate);
+				writer.println("  xy: " + frame.x + ", " + frame.y);
+				writer.println("  size: " + r.width + ", " + r.height);
+				writer.println("  orig: " + r.originalWidth + ", " + r.originalHeight);
+				writer.println("  offset: " + (int) r.offsetX + ", " + (int) r.offsetY);
+				writer.println("  index: " + r.index);
+			}
+			ImageIO.write(pageImage, "png", new File(atlasFile.getParentFile(), pageName));
+		}
+		writer.close();
+		System.out.println("packed " + frames.size() + " frames into " + pageHeights.size() + " page(s) at " + atlasFile);
+	}
+
+	/**
+	 * Rounds the given value up to the nearest power of two.
+	 */
+	private static int nextPowerOfTwo(int value) {
+		int pot = 1;
+		while (pot < value) {
+			pot <<= 1;
+		}
+		return pot;
+	}
+}
@@ -0,0 +1,168 @@
+package com.arctite.dontfreeze.desktop;
+
+import com.arctite.dontfreeze.Event;
+import com.arctite.dontfreeze.EventAction;
+import com.arctite.dontfreeze.EventCompiler;
+import com.arctite.dontfreeze.EventProperties;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Benchmark of the cost of firing repeatable events: checking their requirements and running their set actions, as
+ * compiled by EventCompiler, against the string dispatch that events used before (comparing type names, splitting
+ * "prop=value" names and looking properties up in a HashMap every time they fire).
+ *
+ * Only set-type events are used, since they need no world to run. Run with the gradle task desktop:benchmarkEvents, or
+ * with the number of events and rounds as arguments.
+ */
+public class EventBenchmark {
+
+	/** Number of properties that the events set and require, round robin */
+	private static final int PROPERTIES = 16;
+	/** Set actions per event */
+	private static final int ACTIONS_PER_EVENT = 3;
+	/** Rounds run before timing, so that both are compiled by the JIT */
+	private static final int WARMUP_ROUNDS = 2000;
+
+	/**
+	 * An event as it was before being compiled: names and types split once when loaded, with requirements as strings.
+	 */
+	private static class LegacyEvent {
+
+		private String[] names;
+		private String[] types;
+		private String reqName;
+		private String reqValue;
+
+		private LegacyEvent(RectangleMapObject obj) {
+			this.names = obj.getName().split(Event.COMMA);
+			this.types = obj.getProperties().get("type", String.class).split(Event.COMMA);
+			String[] split = obj.getProperties().get("req", String.class).split(Event.DIFFERS);
+			this.reqName = split[0];
+			this.reqValue = split[1];
+		}
+	}
+
+	public static void main(String[] args) {
+		int eventCount = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+
+		// the same events, as Tiled objects and compiled
+		ArrayList<RectangleMapObject> objects = new ArrayList<RectangleMapObject>();
+		for (int i = 0; i < eventCount; i++) {
+			objects.add(createObject(i));
+		}
+		EventProperties props = new EventProperties();
+		ArrayList<Event> events = new ArrayList<Event>();
+		for (RectangleMapObject obj : objects) {
+			events.add(EventCompiler.compile(obj, props, null));
+		}
+		ArrayList<LegacyEvent> legacyEvents = new ArrayList<LegacyEvent>();
+		for (RectangleMapObject obj : objects) {
+			legacyEvents.add(new LegacyEvent(obj));
+		}
+		HashMap<String, String> legacyProps = new HashMap<String, String>();
+
+		long sink = 0;
+		for (int i = 0; i < WARMUP_ROUNDS; i++) {
+			sink += runCompiled(events, props);
+			sink += runLegacy(legacyEvents, legacyProps);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < rounds; i++) {
+			sink += runCompiled(events, props);
+		}
+		long compiledNanos = System.nanoTime() - start;
+		start = System.nanoTime();
+		for (int i = 0; i < rounds; i++) {
+			sink += runLegacy(legacyEvents, legacyProps);
+		}
+		long legacyNanos = System.nanoTime() - start;
+
+		long triggers = (long) eventCount * rounds;
+		System.out.println(eventCount + " repeatable events, " + ACTIONS_PER_EVENT + " set actions each, " + rounds
+				+ " rounds (" + sink + " fired)");
+		System.out.printf("compiled: %.1f ns per event%n", compiledNanos / (double) triggers);
+		System.out.printf("legacy:   %.1f ns per event%n", legacyNanos / (double) triggers);
+	}
+
+	/**
+	 * Creates a repeatable event object as it'd be loaded from the Tiled map, which sets the next few properties and
+	 * requires one of them not to be a value that is never set.
+	 */
+	private static RectangleMapObject createObject(int id) {
+		RectangleMapObject obj = new RectangleMapObject(0, 0, 32, 32);
+		String names = "";
+		String types = "";
+		for (int i = 0; i < ACTIONS_PER_EVENT; i++) {
+			if (i > 0) {
+				names += Event.COMMA;
+				types += Event.COMMA;
+			}
+			names += "prop" + ((id + i) % PROPERTIES) + Event.EQUALS + "value" + (id % 4);
+			types += "set";
+		}
+		obj.setName(names);
+		MapProperties tiledProps = obj.getProperties();
+		tiledProps.put("id", id);
+		tiledProps.put("x", 0F);
+		tiledProps.put("y", 0F);
+		tiledProps.put("width", 32F);
+		tiledProps.put("height", 32F);
+		tiledProps.put("type", types);
+		tiledProps.put("repeat", "true");
+		tiledProps.put("req", "prop" + (id % PROPERTIES) + Event.DIFFERS + "never");
+		return obj;
+	}
+
+	/**
+	 * Fires every compiled event whose requirements are satisfied, the way WorldScreen does.
+	 *
+	 * @return number of events fired
+	 */
+	private static int runCompiled(ArrayList<Event> events, EventProperties props) {
+		ArrayList<EventAction> queue = new ArrayList<EventAction>();
+		int fired = 0;
+		for (int i = 0; i < events.size(); i++) {
+			Event event = events.get(i);
+			if (!event.hasTriggered() && event.satisfiesRequirements(props)) {
+				event.trigger(queue);
+				fired++;
+			}
+		}
+		for (int i = 0; i < queue.size(); i++) {
+			EventAction action = queue.get(i);
+			props.set(action.getPropNameId(), action.getPropValueId());
+		}
+		return fired;
+	}
+
+	/**
+	 * Fires every event object whose requirements are satisfied, the way events did before they were compiled.
+	 *
+	 * @return number of events fired
+	 */
+	private static int runLegacy(ArrayList<LegacyEvent> events, HashMap<String, String> props) {
+		int fired = 0;
+		for (int i = 0; i < events.size(); i++) {
+			LegacyEvent event = events.get(i);
+			if (event.reqValue.equals(props.get(event.reqName))) {
+				continue; // requirement not satisfied
+			}
+			for (int j = 0; j < event.types.length; j++) {
+				String type = event.types[j];
+				if (type.equals("message") || type.equals("spawn") || type.equals("spawnc")) {
+					throw new RuntimeException("only set events are benchmarked");
+				} else if (type.equals("set")) {
+					String[] split = event.names[j].split(Event.EQUALS);
+					props.put(split[0], split[1]);
+				}
+			}
+			fired++;
+		}
+		return fired;
+	}
+}